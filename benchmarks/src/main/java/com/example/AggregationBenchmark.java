@@ -0,0 +1,78 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Dashboard statistics: the original {@code refreshStats} full rescan and sort against
+ * one add/remove pushed through the incremental {@link CandidateAggregates}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AggregationBenchmark {
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rows;
+
+    private ObservableList<Candidate> data;
+    private CandidateAggregates stats;
+    private Candidate extra;
+
+    @Setup
+    public void setup() {
+        data = FXCollections.observableArrayList(SyntheticCandidates.generate(rows));
+        stats = new CandidateAggregates(data, 5);
+        extra = new Candidate("extra", "extra@gmail.com", "QA Analyst", 10, 10, 1, "REJECTED", 10.0, null);
+    }
+
+    @Benchmark
+    public void legacyRescan(Blackhole bh) {
+        int h = 0, r = 0, o = 0;
+        Map<String, Integer> roles = new HashMap<>();
+        for (Candidate c : data) {
+            if (c.status.equals("HIRED")) h++; else if (c.status.equals("REJECTED")) r++; else o++;
+            roles.put(c.role, roles.getOrDefault(c.role, 0) + 1);
+        }
+        List<Candidate> sorted = new ArrayList<>(data);
+        sorted.sort(Comparator.comparingDouble(Candidate::getAvg).reversed());
+        bh.consume(h + r + o);
+        bh.consume(roles);
+        bh.consume(sorted.subList(0, Math.min(5, sorted.size())));
+    }
+
+    @Benchmark
+    public void incrementalAddRemove(Blackhole bh) {
+        data.add(extra);
+        bh.consume(stats.hired() + stats.rejected() + stats.other());
+        bh.consume(stats.drainChangedRoles());
+        bh.consume(stats.top());
+        data.remove(data.size() - 1);
+        stats.markClean();
+    }
+}
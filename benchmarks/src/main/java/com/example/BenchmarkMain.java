@@ -0,0 +1,25 @@
+package com.example;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}: plain JMH, but results default to
+ * {@code jmh-result.json} so runs from different builds can be diffed.
+ * <p>
+ * Every benchmark with a {@code rows} parameter runs from 1k to 10M synthetic
+ * candidates; the largest sizes need a few GB of heap. Narrow a run with e.g.
+ * {@code -p rows=1000,100000} or select benchmarks by regex as usual.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws Exception {
+        List<String> a = new ArrayList<>(Arrays.asList(args));
+        if (!a.contains("-rf")) a.addAll(List.of("-rf", "json"));
+        if (!a.contains("-rff")) a.addAll(List.of("-rff", "jmh-result.json"));
+        org.openjdk.jmh.Main.main(a.toArray(new String[0]));
+    }
+}
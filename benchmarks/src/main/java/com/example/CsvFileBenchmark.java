@@ -0,0 +1,61 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading a whole data file: the memory-mapped parallel importer against the
+ * original {@code BufferedReader} + {@code fromCSV} loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CsvFileBenchmark {
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rows;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException { file = SyntheticCandidates.writeCsv(rows); }
+
+    @TearDown
+    public void tearDown() throws IOException { Files.deleteIfExists(file); }
+
+    @Benchmark
+    public List<Candidate> bulkImport() throws IOException { return CandidateCsvImporter.importFile(file).candidates; }
+
+    @Benchmark
+    public List<Candidate> lineByLine() throws IOException {
+        List<Candidate> out = new ArrayList<>();
+        try (BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String l; (l = br.readLine()) != null; ) out.add(Candidate.fromCSV(l));
+        }
+        return out;
+    }
+}
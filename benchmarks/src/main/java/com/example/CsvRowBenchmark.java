@@ -0,0 +1,43 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-row cost of {@code Candidate.fromCSV} and {@code toCSV}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvRowBenchmark {
+
+    private Candidate row;
+    private String line;
+
+    @Setup
+    public void setup() {
+        row = SyntheticCandidates.generate(1).get(0);
+        line = row.toCSV();
+    }
+
+    @Benchmark
+    public Candidate fromCsv() { return Candidate.fromCSV(line); }
+
+    @Benchmark
+    public String toCsv() { return row.toCSV(); }
+}
@@ -0,0 +1,55 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Re-scoring a database: parallel primitive-column batch against a sequential
+ * loop over the original hard-coded rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rows;
+
+    private List<Candidate> data;
+    private ScoringEngine engine;
+
+    @Setup
+    public void setup() {
+        data = SyntheticCandidates.generate(rows);
+        engine = new ScoringEngine(ScoringRules.defaults());
+    }
+
+    @Benchmark
+    public ScoringEngine.Batch batch() { return engine.evaluate(data); }
+
+    @Benchmark
+    public void legacyLoop(Blackhole bh) {
+        for (Candidate c : data) {
+            double avg = (c.tech + c.comm) / 2.0;
+            bh.consume((avg >= 85 && c.exp >= 2) ? "HIRED" : (avg >= 70 ? "SHORTLISTED" : (avg >= 50 && c.exp > 5 ? "ON HOLD" : "REJECTED")));
+        }
+    }
+}
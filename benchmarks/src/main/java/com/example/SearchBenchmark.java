@@ -0,0 +1,65 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Database-view search: the trigram index against the original per-keystroke
+ * {@code FilteredList} predicate ({@code name.toLowerCase().contains(...)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rows;
+
+    @Param({ "smith", "garcia 4242" })
+    public String term;
+
+    private ObservableList<Candidate> data;
+    private CandidateSearchIndex index;
+    private CandidateQuery query, typed;
+
+    @Setup
+    public void setup() {
+        data = FXCollections.observableArrayList(SyntheticCandidates.generate(rows));
+        index = new CandidateSearchIndex(data, Runnable::run, 0);
+        query = CandidateQuery.parse(term);
+        typed = CandidateQuery.parse(term + " role:QA status:HIRED tech>80");
+    }
+
+    @Benchmark
+    public List<Candidate> indexed() { return index.evaluate(query); }
+
+    @Benchmark
+    public List<Candidate> indexedTypedFilters() { return index.evaluate(typed); }
+
+    @Benchmark
+    public long legacyPredicate() {
+        long n = 0;
+        for (Candidate c : data) if (term.isEmpty() || c.name.toLowerCase().contains(term.toLowerCase())) n++;
+        return n;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic candidate datasets shaped like real exports: five roles, scores 0-100,
+ * 0-15 years of experience and statuses from the default scoring policy.
+ */
+final class SyntheticCandidates {
+
+    static final String[] ROLES = { "Software Engineer", "QA Analyst", "Product Manager", "UI/UX Designer", "System Admin" };
+    private static final String[] FIRST = { "joses", "ram", "deepa", "ann", "ben", "maria", "li", "omar", "sara", "kiran", "noah", "ava" };
+    private static final String[] LAST = { "george", "kumar", "smith", "nair", "chen", "garcia", "khan", "ito", "brown", "das" };
+
+    private SyntheticCandidates() {}
+
+    static List<Candidate> generate(int rows) { return generate(rows, 42); }
+
+    static List<Candidate> generate(int rows, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        ScoringEngine engine = new ScoringEngine(ScoringRules.defaults());
+        List<Candidate> out = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String name = FIRST[rnd.nextInt(FIRST.length)] + " " + LAST[rnd.nextInt(LAST.length)] + " " + i;
+            out.add(engine.score(name, "user" + i + "@gmail.com", ROLES[rnd.nextInt(ROLES.length)], rnd.nextInt(101), rnd.nextInt(101), rnd.nextInt(16), null));
+        }
+        return out;
+    }
+
+    /** Writes {@code rows} candidates as {@code candidates.csv} lines into a temp file. */
+    static Path writeCsv(int rows) throws IOException {
+        Path f = Files.createTempFile("candidates-" + rows + "-", ".csv");
+        try (BufferedWriter w = Files.newBufferedWriter(f, StandardCharsets.UTF_8)) {
+            for (Candidate c : generate(rows)) { w.write(c.toCSV()); w.newLine(); }
+        }
+        return f;
+    }
+}
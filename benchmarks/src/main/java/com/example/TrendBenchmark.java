@@ -0,0 +1,48 @@
+package com.example;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Trend chart sampling: LTTB over the store's average column down to a typical
+ * chart width, for the full history and for a 1% zoom window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrendBenchmark {
+
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int rows;
+
+    private static final int WIDTH = 700;
+
+    private CandidateColumnStore columns;
+    private final int[] out = new int[WIDTH];
+
+    @Setup
+    public void setup() {
+        columns = new CandidateColumnStore();
+        columns.insertAll(0, SyntheticCandidates.generate(rows));
+    }
+
+    @Benchmark
+    public int fullHistory() { return Lttb.downsample(columns.avgColumn(), 0, columns.size(), WIDTH, out); }
+
+    @Benchmark
+    public int zoomedWindow() { int span = Math.max(1, rows / 100); return Lttb.downsample(columns.avgColumn(), rows / 2, rows / 2 + span, WIDTH, out); }
+}
@@ -0,0 +1,132 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Dashboard aggregates kept current from list changes instead of full rescans.
+ * <p>
+ * Status and role counts are adjusted per added/removed row in O(1); the top
+ * performers are a bounded ordered set of {@code k} entries updated in O(log k).
+ * Only removing a row that is currently in the top set forces a rescan, and that
+ * is deferred until the top list is next read. No JavaFX scene classes are used,
+ * so the engine runs headless.
+ */
+final class CandidateAggregates {
+
+    private final ObservableList<Candidate> source;
+    private final int k;
+
+    private int hired, rejected, other;
+    private final Map<String, int[]> roles = new LinkedHashMap<>();
+    private final Set<String> changedRoles = new LinkedHashSet<>();
+
+    private final TreeSet<Entry> top = new TreeSet<>();
+    private boolean topStale;
+    private long seq;
+
+    private boolean dirty = true;
+
+    private static final class Entry implements Comparable<Entry> {
+        final Candidate c; final long seq;
+        Entry(Candidate c, long seq) { this.c = c; this.seq = seq; }
+        // Ascending by avg, earlier rows win ties, so first() is always the weakest member
+        @Override public int compareTo(Entry o) { int r = Double.compare(c.avg, o.c.avg); return r != 0 ? r : Long.compare(o.seq, seq); }
+    }
+
+    CandidateAggregates(ObservableList<Candidate> source, int k) {
+        this.source = source;
+        this.k = k;
+        for (Candidate c : source) add(c);
+        source.addListener(this::onChanged);
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Candidate> ch) {
+        while (ch.next()) {
+            if (ch.wasPermutated()) { dirty = true; continue; }
+            if (ch.wasUpdated()) { rebuild(); continue; }
+            for (Candidate c : ch.getRemoved()) remove(c);
+            for (Candidate c : ch.getAddedSubList()) add(c);
+            dirty = true;
+        }
+    }
+
+    private void add(Candidate c) {
+        switch (CandidateStatus.of(c.status)) {
+            case HIRED: hired++; break;
+            case REJECTED: rejected++; break;
+            default: other++;
+        }
+        roles.computeIfAbsent(c.role, r -> new int[1])[0]++;
+        changedRoles.add(c.role);
+        offerTop(c);
+    }
+
+    private void remove(Candidate c) {
+        switch (CandidateStatus.of(c.status)) {
+            case HIRED: hired--; break;
+            case REJECTED: rejected--; break;
+            default: other--;
+        }
+        int[] n = roles.get(c.role);
+        if (n != null && --n[0] <= 0) roles.remove(c.role);
+        changedRoles.add(c.role);
+        if (topStale) return;
+        for (Entry e : top) if (e.c.equals(c)) { topStale = true; return; } // rows are values, not instances: k is small, so scan
+    }
+
+    private void offerTop(Candidate c) {
+        if (topStale) return;
+        Entry e = new Entry(c, seq++);
+        if (top.size() < k) { top.add(e); return; }
+        if (e.compareTo(top.first()) > 0) { top.pollFirst(); top.add(e); }
+    }
+
+    private void rebuild() {
+        hired = rejected = other = 0;
+        changedRoles.addAll(roles.keySet());
+        roles.clear(); top.clear(); topStale = false;
+        for (Candidate c : source) add(c);
+        dirty = true;
+    }
+
+    // --- Readers ---
+    int total() { return source.size(); }
+    int hired() { return hired; }
+    int rejected() { return rejected; }
+    int other() { return other; }
+    int roleCount(String role) { int[] n = roles.get(role); return n == null ? 0 : n[0]; }
+
+    /** Highest averages first. */
+    List<Candidate> top() {
+        if (topStale) { top.clear(); topStale = false; for (Candidate c : source) offerTop(c); }
+        List<Candidate> out = new ArrayList<>(top.size());
+        for (Iterator<Entry> it = top.descendingIterator(); it.hasNext(); ) out.add(it.next().c);
+        return out;
+    }
+
+    /** True when anything changed since the last {@link #markClean()}. */
+    boolean isDirty() { return dirty; }
+
+    /** Roles whose count changed since the last call; the set is cleared. */
+    List<String> drainChangedRoles() {
+        if (changedRoles.isEmpty()) return Collections.emptyList();
+        List<String> out = new ArrayList<>(changedRoles);
+        changedRoles.clear();
+        return out;
+    }
+
+    void markClean() { dirty = false; }
+}
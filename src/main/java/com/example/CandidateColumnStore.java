@@ -0,0 +1,206 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented candidate storage.
+ * <p>
+ * Scores, experience and averages live in primitive arrays; role and status are
+ * dictionary-encoded (null is stored as ""; status ids follow {@link CandidateStatus} ordinals, unknown
+ * labels get ids after them); name and email are packed as UTF-8 into one shared byte
+ * arena. A row costs about 35 bytes plus its text, instead of a {@code Candidate} with
+ * five separate {@code String}s. {@link #get(int)} materializes a short-lived
+ * {@code Candidate} whose role and status strings are the shared dictionary instances.
+ * <p>
+ * Mutators take the write lock themselves. The owning (FX) thread may read without
+ * locking; any other thread must hold {@link #readLock()} while reading.
+ */
+final class CandidateColumnStore {
+
+    private static final int MAX_TEXT = 0xFFFF;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int size;
+    private int[] tech = new int[16], comm = new int[16], exp = new int[16];
+    private double[] avg = new double[16];
+    private char[] role = new char[16];
+    private byte[] status = new byte[16];
+    private int[] textOff = new int[16];
+    private char[] nameLen = new char[16], emailLen = new char[16];
+    private String[] img = new String[16];
+
+    private byte[] text = new byte[1024];
+    private int textUsed, textGarbage;
+
+    private final Dictionary roles = new Dictionary(MAX_TEXT);
+    private final Dictionary statuses = new Dictionary(255);
+
+    CandidateColumnStore() {
+        for (CandidateStatus s : CandidateStatus.values()) statuses.id(s.label);
+    }
+
+    /** Interned string table mapping values to small ids. */
+    private static final class Dictionary {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final int max;
+        Dictionary(int max) { this.max = max; }
+        int id(String v) {
+            Integer id = ids.get(v);
+            if (id != null) return id;
+            if (values.size() >= max) throw new IllegalStateException("Too many distinct values (max " + max + ")");
+            values.add(v); ids.put(v, values.size() - 1);
+            return values.size() - 1;
+        }
+        String value(int id) { return values.get(id); }
+    }
+
+    Lock readLock() { return lock.readLock(); }
+
+    int size() { return size; }
+
+    // --- Column readers ---
+    int tech(int row) { return tech[row]; }
+    int comm(int row) { return comm[row]; }
+    int exp(int row) { return exp[row]; }
+    double avg(int row) { return avg[row]; }
+    String role(int row) { return roles.value(role[row]); }
+    String statusLabel(int row) { return statuses.value(status[row] & 0xFF); }
+
+    /** Status of a row; labels outside {@link CandidateStatus} count as on hold. */
+    CandidateStatus status(int row) { int id = status[row] & 0xFF; return id < CandidateStatus.values().length ? CandidateStatus.ofOrdinal(id) : CandidateStatus.ON_HOLD; }
+
+    /**
+     * The live average column; entries below {@link #size()} are valid. The array is
+     * replaced when the store grows, so callers must not hold on to it across writes.
+     */
+    double[] avgColumn() { return avg; }
+
+    Candidate get(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        int off = textOff[row], nl = nameLen[row], el = emailLen[row];
+        return new Candidate(new String(text, off, nl, StandardCharsets.UTF_8), new String(text, off + nl, el, StandardCharsets.UTF_8),
+                roles.value(role[row]), tech[row], comm[row], exp[row], statuses.value(status[row] & 0xFF), avg[row], img[row]);
+    }
+
+    /** True when row {@code row} holds exactly the values of {@code c}. */
+    boolean rowEquals(int row, Candidate c) {
+        if (tech[row] != c.tech || comm[row] != c.comm || exp[row] != c.exp || Double.compare(avg[row], c.avg) != 0) return false;
+        if (!roles.value(role[row]).equals(orEmpty(c.role)) || !statuses.value(status[row] & 0xFF).equals(orEmpty(c.status))) return false;
+        if (img[row] == null ? c.imgPath != null : !img[row].equals(c.imgPath)) return false;
+        return textEquals(textOff[row], nameLen[row], c.name) && textEquals(textOff[row] + nameLen[row], emailLen[row], c.email);
+    }
+
+    private boolean textEquals(int off, int len, String s) {
+        byte[] b = utf8(s);
+        return b.length == len && Arrays.equals(text, off, off + len, b, 0, len);
+    }
+
+    // --- Mutators ---
+    void set(int row, Candidate c) {
+        lock.writeLock().lock();
+        try {
+            if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+            textGarbage += nameLen[row] + emailLen[row];
+            write(row, c);
+            compactTextIfWasteful();
+        } finally { lock.writeLock().unlock(); }
+    }
+
+    void add(Candidate c) { insertAll(size, List.of(c)); }
+
+    /** Inserts {@code rows} before {@code at}, shifting later rows once. */
+    void insertAll(int at, Collection<? extends Candidate> rows) {
+        lock.writeLock().lock();
+        try {
+            if (at < 0 || at > size) throw new IndexOutOfBoundsException("Row " + at + " of " + size);
+            int n = rows.size();
+            ensureCapacity(size + n);
+            shift(at, at + n, size - at);
+            size += n;
+            int row = at;
+            for (Candidate c : rows) write(row++, c);
+        } finally { lock.writeLock().unlock(); }
+    }
+
+    /** Removes rows {@code [from, to)}. */
+    void remove(int from, int to) {
+        lock.writeLock().lock();
+        try {
+            if (from < 0 || to > size || from > to) throw new IndexOutOfBoundsException("Rows " + from + ".." + to + " of " + size);
+            for (int i = from; i < to; i++) { textGarbage += nameLen[i] + emailLen[i]; img[i] = null; }
+            shift(to, from, size - to);
+            size -= to - from;
+            Arrays.fill(img, size, size + (to - from), null);
+            if (size == 0) { textUsed = 0; textGarbage = 0; } else compactTextIfWasteful();
+        } finally { lock.writeLock().unlock(); }
+    }
+
+    private void write(int row, Candidate c) {
+        byte[] n = utf8(c.name), e = utf8(c.email);
+        if (n.length > MAX_TEXT || e.length > MAX_TEXT) throw new IllegalArgumentException("Name or email longer than " + MAX_TEXT + " bytes");
+        textOff[row] = appendText(n, e);
+        nameLen[row] = (char) n.length; emailLen[row] = (char) e.length;
+        tech[row] = c.tech; comm[row] = c.comm; exp[row] = c.exp; avg[row] = c.avg;
+        role[row] = (char) roles.id(orEmpty(c.role));
+        status[row] = (byte) statuses.id(orEmpty(c.status));
+        img[row] = c.imgPath;
+    }
+
+    private static String orEmpty(String s) { return s == null ? "" : s; }
+
+    private static byte[] utf8(String s) { return s == null ? new byte[0] : s.getBytes(StandardCharsets.UTF_8); }
+
+    private int appendText(byte[] a, byte[] b) {
+        long need = (long) textUsed + a.length + b.length;
+        if (need > Integer.MAX_VALUE - 8) throw new IllegalStateException("Text arena full");
+        if (need > text.length) text = Arrays.copyOf(text, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(need, (long) text.length * 2)));
+        int off = textUsed;
+        System.arraycopy(a, 0, text, off, a.length);
+        System.arraycopy(b, 0, text, off + a.length, b.length);
+        textUsed += a.length + b.length;
+        return off;
+    }
+
+    /** Rewrites the arena once more than half of it belongs to replaced or removed rows. */
+    private void compactTextIfWasteful() {
+        if (textGarbage < 4096 || textGarbage * 2 < textUsed) return;
+        byte[] packed = new byte[Math.max(1024, textUsed - textGarbage)];
+        int w = 0;
+        for (int i = 0; i < size; i++) {
+            int len = nameLen[i] + emailLen[i];
+            System.arraycopy(text, textOff[i], packed, w, len);
+            textOff[i] = w; w += len;
+        }
+        text = packed; textUsed = w; textGarbage = 0;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n <= tech.length) return;
+        int cap = Math.max(n, tech.length + (tech.length >> 1));
+        tech = Arrays.copyOf(tech, cap); comm = Arrays.copyOf(comm, cap); exp = Arrays.copyOf(exp, cap);
+        avg = Arrays.copyOf(avg, cap); role = Arrays.copyOf(role, cap); status = Arrays.copyOf(status, cap);
+        textOff = Arrays.copyOf(textOff, cap); nameLen = Arrays.copyOf(nameLen, cap); emailLen = Arrays.copyOf(emailLen, cap);
+        img = Arrays.copyOf(img, cap);
+    }
+
+    private void shift(int from, int to, int n) {
+        if (n <= 0 || from == to) return;
+        System.arraycopy(tech, from, tech, to, n); System.arraycopy(comm, from, comm, to, n); System.arraycopy(exp, from, exp, to, n);
+        System.arraycopy(avg, from, avg, to, n); System.arraycopy(role, from, role, to, n); System.arraycopy(status, from, status, to, n);
+        System.arraycopy(textOff, from, textOff, to, n); System.arraycopy(nameLen, from, nameLen, to, n); System.arraycopy(emailLen, from, emailLen, to, n);
+        System.arraycopy(img, from, img, to, n);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk loader for large candidate CSV exports.
+ * <p>
+ * The file is memory-mapped in line-aligned chunks that are parsed in parallel by a
+ * byte-level field scanner (no {@code String.split}, no boxed parsing). Rows that do
+ * not parse are counted and skipped instead of aborting the import.
+ */
+final class CandidateCsvImporter {
+
+    /** Receives bytes-done / bytes-total updates from the worker threads. */
+    interface Progress { void update(long done, long total); }
+
+    static final class Result {
+        final List<Candidate> candidates;
+        final long malformed;
+        Result(List<Candidate> candidates, long malformed) { this.candidates = candidates; this.malformed = malformed; }
+    }
+
+    private static final long MIN_CHUNK = 1 << 20, MAX_CHUNK = 1 << 28;
+
+    private CandidateCsvImporter() {}
+
+    static Result importFile(Path file) throws IOException { return importFile(file, (d, t) -> {}); }
+
+    static Result importFile(Path file, Progress progress) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            long[] bounds = chunkBounds(ch, size);
+            AtomicLong done = new AtomicLong();
+            Chunk[] chunks = IntStream.range(0, bounds.length - 1).parallel().mapToObj(i -> {
+                try {
+                    Chunk c = parse(ch.map(FileChannel.MapMode.READ_ONLY, bounds[i], bounds[i + 1] - bounds[i]));
+                    progress.update(done.addAndGet(bounds[i + 1] - bounds[i]), size);
+                    return c;
+                } catch (IOException e) { throw new java.io.UncheckedIOException(e); }
+            }).toArray(Chunk[]::new);
+            int total = 0; long malformed = 0;
+            for (Chunk c : chunks) { total += c.rows.size(); malformed += c.malformed; }
+            List<Candidate> all = new ArrayList<>(total);
+            for (Chunk c : chunks) all.addAll(c.rows);
+            return new Result(all, malformed);
+        } catch (java.io.UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** Splits the file into chunks that each end just after a newline (or at EOF). */
+    private static long[] chunkBounds(FileChannel ch, long size) throws IOException {
+        int workers = Runtime.getRuntime().availableProcessors();
+        long target = Math.max(MIN_CHUNK, Math.min(MAX_CHUNK, size / (workers * 4L) + 1));
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long pos = target;
+        while (pos < size) {
+            long nl = -1;
+            for (long p = pos; nl < 0 && p < size; p += probe.capacity()) {
+                probe.clear(); ch.read(probe, p); probe.flip();
+                for (int i = 0; i < probe.limit(); i++) if (probe.get(i) == '\n') { nl = p + i; break; }
+            }
+            if (nl < 0) break;
+            bounds.add(nl + 1);
+            pos = nl + 1 + target;
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).distinct().toArray();
+    }
+
+    private static final class Chunk {
+        final List<Candidate> rows = new ArrayList<>();
+        long malformed;
+    }
+
+    // --- Field scanner ---
+    private static final int FIELDS = 9;
+
+    private static Chunk parse(MappedByteBuffer buf) {
+        Chunk out = new Chunk();
+        Strings dict = new Strings();
+        int[] start = new int[FIELDS + 1], end = new int[FIELDS + 1];
+        int limit = buf.limit(), ls = 0;
+        while (ls < limit) {
+            int le = ls;
+            while (le < limit && buf.get(le) != '\n') le++;
+            int next = le + 1;
+            if (le > ls && buf.get(le - 1) == '\r') le--;
+            if (le > ls) {
+                Candidate c = parseLine(buf, ls, le, start, end, dict);
+                if (c != null) out.rows.add(c); else out.malformed++;
+            }
+            ls = next;
+        }
+        return out;
+    }
+
+    private static Candidate parseLine(ByteBuffer b, int ls, int le, int[] start, int[] end, Strings dict) {
+        int f = 0; start[0] = ls;
+        for (int i = ls; i < le && f < FIELDS; i++) if (b.get(i) == ',') { end[f++] = i; start[f] = i + 1; }
+        if (f < FIELDS) end[f] = le;
+        int fields = f < FIELDS ? f + 1 : FIELDS;
+        if (fields < 8) return null;
+        int tech = parseInt(b, start[3], end[3]), comm = parseInt(b, start[4], end[4]), exp = parseInt(b, start[5], end[5]);
+        double avg = parseDouble(b, start[7], end[7]);
+        if (tech == Integer.MIN_VALUE || comm == Integer.MIN_VALUE || exp == Integer.MIN_VALUE || Double.isNaN(avg)) return null;
+        String img = fields > 8 && end[8] > start[8] ? string(b, start[8], end[8]) : null;
+        return new Candidate(string(b, start[0], end[0]), string(b, start[1], end[1]), dict.get(b, start[2], end[2]),
+                tech, comm, exp, dict.get(b, start[6], end[6]), avg, img);
+    }
+
+    private static String string(ByteBuffer b, int s, int e) {
+        byte[] bytes = new byte[e - s];
+        b.get(s, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Returns {@code Integer.MIN_VALUE} when the field is not a plain integer. */
+    private static int parseInt(ByteBuffer b, int s, int e) {
+        if (s >= e) return Integer.MIN_VALUE;
+        boolean neg = b.get(s) == '-';
+        if (neg && ++s >= e) return Integer.MIN_VALUE;
+        long v = 0;
+        for (int i = s; i < e; i++) {
+            int d = b.get(i) - '0';
+            if (d < 0 || d > 9 || (v = v * 10 + d) > Integer.MAX_VALUE) return Integer.MIN_VALUE;
+        }
+        return (int) (neg ? -v : v);
+    }
+
+    /** Fast path for plain decimals, falling back to {@link Double#parseDouble}; NaN when unparseable. */
+    private static double parseDouble(ByteBuffer b, int s, int e) {
+        if (s >= e) return Double.NaN;
+        int i = s; boolean neg = b.get(i) == '-';
+        if (neg) i++;
+        long mant = 0; int digits = 0, scale = 0; boolean dot = false;
+        for (; i < e; i++) {
+            int ch = b.get(i);
+            if (ch == '.' && !dot) { dot = true; continue; }
+            int d = ch - '0';
+            if (d < 0 || d > 9 || digits >= 15) return slowDouble(b, s, e);
+            mant = mant * 10 + d; digits++;
+            if (dot) scale++;
+        }
+        if (digits == 0) return Double.NaN;
+        double v = scale == 0 ? mant : mant / Math.pow(10, scale);
+        return neg ? -v : v;
+    }
+
+    private static double slowDouble(ByteBuffer b, int s, int e) {
+        try { return Double.parseDouble(string(b, s, e)); } catch (NumberFormatException ex) { return Double.NaN; }
+    }
+
+    /** Tiny per-chunk dictionary so low-cardinality columns (role, status) share one String each. */
+    private static final class Strings {
+        private final List<byte[]> keys = new ArrayList<>();
+        private final List<String> values = new ArrayList<>();
+
+        String get(ByteBuffer b, int s, int e) {
+            int len = e - s;
+            outer:
+            for (int k = 0; k < keys.size(); k++) {
+                byte[] key = keys.get(k);
+                if (key.length != len) continue;
+                for (int i = 0; i < len; i++) if (key[i] != b.get(s + i)) continue outer;
+                return values.get(k);
+            }
+            String v = string(b, s, e);
+            if (keys.size() < 64) { keys.add(v.getBytes(StandardCharsets.UTF_8)); values.add(v.intern()); return values.get(values.size() - 1); }
+            return v;
+        }
+    }
+}
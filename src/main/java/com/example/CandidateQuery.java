@@ -0,0 +1,132 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parsed Database-view search query.
+ * <p>
+ * Plain words must each appear in the name, email or role. Typed filters narrow
+ * further: {@code name:}, {@code email:}, {@code role:} and {@code status:} match
+ * substrings, and {@code tech}, {@code comm}, {@code exp} and {@code avg} accept
+ * {@code > >= < <= =} (or {@code :} for equality). Values with spaces can be quoted,
+ * e.g. {@code role:"QA Analyst" status:HIRED tech>80}. Matching is case-insensitive.
+ */
+final class CandidateQuery {
+
+    enum Field { NAME, EMAIL, ROLE, STATUS }
+    enum Metric { TECH, COMM, EXP, AVG }
+
+    private static final class TextFilter { final Field field; final String value; TextFilter(Field f, String v) { field = f; value = v; } }
+    private static final class RangeFilter { final Metric metric; final String op; final double value; RangeFilter(Metric m, String o, double v) { metric = m; op = o; value = v; } }
+
+    private final List<String> terms = new ArrayList<>();
+    private final List<TextFilter> text = new ArrayList<>();
+    private final List<RangeFilter> ranges = new ArrayList<>();
+
+    private CandidateQuery() {}
+
+    static CandidateQuery parse(String input) {
+        CandidateQuery q = new CandidateQuery();
+        for (String token : tokenize(input)) q.addToken(token);
+        return q;
+    }
+
+    boolean isEmpty() { return terms.isEmpty() && text.isEmpty() && ranges.isEmpty(); }
+
+    /** Substrings every match must contain somewhere in name, email or role; used to probe the n-gram index. */
+    List<String> indexableTerms() {
+        List<String> out = new ArrayList<>(terms);
+        for (TextFilter f : text) if (f.field != Field.STATUS) out.add(f.value);
+        return out;
+    }
+
+    boolean matches(Candidate c) {
+        for (String t : terms) if (!containsIgnoreCase(c.name, t) && !containsIgnoreCase(c.email, t) && !containsIgnoreCase(c.role, t)) return false;
+        for (TextFilter f : text) if (!containsIgnoreCase(value(c, f.field), f.value)) return false;
+        for (RangeFilter f : ranges) {
+            double v = value(c, f.metric);
+            boolean ok;
+            switch (f.op) {
+                case ">": ok = v > f.value; break;
+                case ">=": ok = v >= f.value; break;
+                case "<": ok = v < f.value; break;
+                case "<=": ok = v <= f.value; break;
+                default: ok = v == f.value;
+            }
+            if (!ok) return false;
+        }
+        return true;
+    }
+
+    private static String value(Candidate c, Field f) {
+        switch (f) {
+            case NAME: return c.name;
+            case EMAIL: return c.email;
+            case ROLE: return c.role;
+            default: return c.status;
+        }
+    }
+
+    private static double value(Candidate c, Metric m) {
+        switch (m) {
+            case TECH: return c.tech;
+            case COMM: return c.comm;
+            case EXP: return c.exp;
+            default: return c.avg;
+        }
+    }
+
+    static boolean containsIgnoreCase(String haystack, String needle) {
+        if (haystack == null) return false;
+        int n = needle.length(), last = haystack.length() - n;
+        for (int i = 0; i <= last; i++) if (haystack.regionMatches(true, i, needle, 0, n)) return true;
+        return false;
+    }
+
+    // --- Parsing ---
+    private void addToken(String token) {
+        int op = indexOfOperator(token);
+        if (op > 0) {
+            String key = token.substring(0, op).toUpperCase();
+            int opEnd = op + 1 < token.length() && token.charAt(op + 1) == '=' && token.charAt(op) != ':' ? op + 2 : op + 1;
+            String symbol = token.substring(op, opEnd), value = unquote(token.substring(opEnd));
+            if (!value.isEmpty()) {
+                for (Field f : Field.values()) if (f.name().equals(key) && symbol.equals(":")) { text.add(new TextFilter(f, value)); return; }
+                for (Metric m : Metric.values()) if (m.name().equals(key)) {
+                    try { ranges.add(new RangeFilter(m, symbol.equals(":") ? "=" : symbol, Double.parseDouble(value))); return; }
+                    catch (NumberFormatException e) { break; }
+                }
+            }
+        }
+        String term = unquote(token);
+        if (!term.isEmpty()) terms.add(term);
+    }
+
+    private static int indexOfOperator(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            char ch = token.charAt(i);
+            if (ch == '"') return -1;
+            if (ch == ':' || ch == '>' || ch == '<' || ch == '=') return i;
+        }
+        return -1;
+    }
+
+    private static String unquote(String s) { return s.replace("\"", "").trim(); }
+
+    private static List<String> tokenize(String input) {
+        List<String> out = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < input.length(); i++) {
+            char ch = input.charAt(i);
+            if (ch == '"') quoted = !quoted;
+            if (Character.isWhitespace(ch) && !quoted) { if (cur.length() > 0) { out.add(cur.toString()); cur.setLength(0); } }
+            else cur.append(ch);
+        }
+        if (cur.length() > 0) out.add(cur.toString());
+        return out;
+    }
+}
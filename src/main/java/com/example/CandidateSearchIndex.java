@@ -0,0 +1,351 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Trigram index over candidate name, email and role, with debounced background queries.
+ * <p>
+ * The list's change events only describe the change on the FX thread; the index is
+ * updated on the search worker, in order with the queries. Replaced rows give up their
+ * old postings. Bulk appends are indexed in chunks, and changes that shift rows rebuild
+ * the index off to the side and swap it in. A {@link ColumnarCandidateList} is not
+ * mirrored: the worker reads its rows from the column store under the store's read lock.
+ * Queries are parsed by {@link CandidateQuery}; terms of three or more characters are
+ * answered by intersecting posting lists, and every surviving row is verified against
+ * the full query. Each new query cancels the one before it, and results that arrive
+ * after a newer query was issued are dropped.
+ */
+final class CandidateSearchIndex {
+
+    static final long DEFAULT_DEBOUNCE_MS = 150;
+    private static final Metrics.Timer SEARCH = Metrics.timer("search");
+    private static final int CHUNK = 16_384;          // rows indexed or checked per hold of the column store's read lock
+    private static final int INCREMENTAL_LIMIT = 4096; // larger tail removals rebuild instead
+
+    private final ObservableList<Candidate> source;
+    private final Executor deliver;
+    private final long debounceMs;
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> { Thread t = new Thread(r, "candidate-search"); t.setDaemon(true); workerThread = t; return t; });
+    private volatile Thread workerThread;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    // --- Written on the worker under lock ---
+    private final CandidateColumnStore columns; // null unless the source is columnar
+    private List<Candidate> rows = new ArrayList<>(); // mirror of a non-columnar source
+    private Map<Long, Postings> grams = new HashMap<>();
+    private int indexed; // rows covered by the postings
+
+    // --- FX thread only ---
+    private int described; // source size as of the last change handed to the worker
+    private String queryText = "";
+    private Consumer<List<Candidate>> onResults;
+    private ScheduledFuture<?> pending;
+
+    /** Posting list of row numbers; appended in row order, sorted lazily after replacements. */
+    private static final class Postings {
+        int[] rows = new int[4]; int size; boolean sorted = true;
+        void add(int row) {
+            if (size > 0 && rows[size - 1] == row) return;
+            if (size == rows.length) rows = Arrays.copyOf(rows, size * 2);
+            if (size > 0 && rows[size - 1] > row) sorted = false;
+            rows[size++] = row;
+        }
+        void remove(int row) {
+            normalize();
+            int i = Arrays.binarySearch(rows, 0, size, row);
+            if (i >= 0) { System.arraycopy(rows, i + 1, rows, i, size - i - 1); size--; }
+        }
+        void normalize() {
+            if (sorted) return;
+            Arrays.sort(rows, 0, size);
+            int w = 0;
+            for (int i = 0; i < size; i++) if (w == 0 || rows[w - 1] != rows[i]) rows[w++] = rows[i];
+            size = w; sorted = true;
+        }
+    }
+
+    /**
+     * @param deliver runs result callbacks, e.g. {@code Platform::runLater}
+     */
+    CandidateSearchIndex(ObservableList<Candidate> source, Executor deliver, long debounceMs) {
+        this.source = source;
+        this.columns = source instanceof ColumnarCandidateList ? ((ColumnarCandidateList) source).columns() : null;
+        this.deliver = deliver;
+        this.debounceMs = debounceMs;
+        described = source.size();
+        rebuild();
+        source.addListener(this::onChanged);
+    }
+
+    /**
+     * Schedules a query; {@code onResults} later receives the matches, or {@code null}
+     * when the query is blank and the full list should be shown.
+     */
+    void search(String text, Consumer<List<Candidate>> onResults) {
+        this.queryText = text == null ? "" : text;
+        this.onResults = onResults;
+        schedule(debounceMs);
+    }
+
+    private void schedule(long delayMs) {
+        long gen = generation.incrementAndGet();
+        if (pending != null) pending.cancel(true);
+        CandidateQuery q = CandidateQuery.parse(queryText);
+        Consumer<List<Candidate>> target = onResults;
+        if (target == null) return;
+        if (q.isEmpty()) { pending = null; deliver.execute(() -> { if (generation.get() == gen) target.accept(null); }); return; }
+        pending = worker.schedule(() -> {
+            try {
+                List<Candidate> found = evaluate(q);
+                deliver.execute(() -> { if (generation.get() == gen) target.accept(found); });
+            } catch (CancellationException e) { /* superseded by a newer query */ }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** Runs a query and waits for it; it sees every list change made before the call. */
+    List<Candidate> evaluate(CandidateQuery q) {
+        return onWorker(() -> { try (Metrics.Span s = SEARCH.start()) { return runQuery(q); } });
+    }
+
+    /** Distinct trigrams in the index once earlier changes are applied. */
+    int trigrams() { return onWorker(() -> grams.size()); }
+
+    /** Runs {@code task} on the worker, behind every index update queued so far. */
+    private <T> T onWorker(Callable<T> task) {
+        try {
+            if (Thread.currentThread() == workerThread) return task.call();
+            return worker.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Narrows to the rows every indexed term's trigrams share, then checks those rows. Over a
+     * column store the check takes the row read lock one {@link #CHUNK} at a time, like
+     * {@link #rebuild()}, so a scan of every row does not hold up edits; rows changed between
+     * chunks are checked with their new values, and the next query picks up anything that moved.
+     */
+    private List<Candidate> runQuery(CandidateQuery q) {
+        Lock rowLock = columns != null ? columns.readLock() : null;
+        lock.readLock().lock();
+        try {
+            int[] candidates = null; int count = 0;
+            for (String term : q.indexableTerms()) {
+                if (term.length() < 3) continue;
+                int[][] lists = postingsFor(term.toLowerCase(Locale.ROOT));
+                if (lists == null) return new ArrayList<>();
+                for (int[] list : lists) {
+                    if (candidates == null) { candidates = list; count = list.length; }
+                    else { int[] narrowed = new int[Math.min(count, list.length)]; count = intersect(candidates, count, list, narrowed); candidates = narrowed; }
+                    if (count == 0) return new ArrayList<>();
+                }
+            }
+            List<Candidate> out = new ArrayList<>();
+            int n = candidates == null ? Integer.MAX_VALUE : count;
+            for (int i = 0; i < n; ) {
+                if (Thread.currentThread().isInterrupted()) throw new CancellationException();
+                if (rowLock != null) rowLock.lock();
+                try {
+                    int limit = columns != null ? Math.min(indexed, columns.size()) : rows.size();
+                    if (candidates == null) n = Math.min(n, limit);
+                    for (int end = Math.min(n, i + CHUNK); i < end; i++) {
+                        int row = candidates == null ? i : candidates[i];
+                        if (row >= limit) { n = i; break; } // postings are sorted; the columns shrank ahead of the index
+                        Candidate c = columns != null ? columns.get(row) : rows.get(row);
+                        if (q.matches(c)) out.add(c);
+                    }
+                } finally {
+                    if (rowLock != null) rowLock.unlock();
+                }
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Posting lists of every trigram in {@code term}, or null when one of them has no rows. */
+    private int[][] postingsFor(String term) {
+        int[][] out = new int[term.length() - 2][];
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            Postings p = grams.get(gram(term, i));
+            if (p == null) return null;
+            synchronized (p) { p.normalize(); out[i] = Arrays.copyOf(p.rows, p.size); } // readers share the lock, so sort under the list's monitor
+        }
+        Arrays.sort(out, (a, b) -> Integer.compare(a.length, b.length));
+        return out;
+    }
+
+    /** Writes the common rows of two sorted lists into {@code out} and returns how many there are. */
+    private static int intersect(int[] a, int na, int[] b, int[] out) {
+        int i = 0, j = 0, k = 0;
+        while (i < na && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else { out[k++] = a[i]; i++; j++; }
+        }
+        return k;
+    }
+
+    // --- Index maintenance: described on the FX thread, applied on the worker ---
+    private void onChanged(ListChangeListener.Change<? extends Candidate> ch) {
+        if (pending != null) pending.cancel(true); // the query is rescheduled behind the update below
+        boolean full = false;
+        while (ch.next()) {
+            int from = ch.getFrom(), removed = ch.getRemovedSize(), added = ch.getAddedSize(), overlap = Math.min(removed, added);
+            if (ch.wasPermutated() || ch.wasUpdated() || (removed != added && from + removed != described)) { full = true; break; }
+            for (int i = from; i < from + overlap; i++) {
+                Candidate old = ch.getRemoved().get(i - from), now = source.get(i);
+                if (!old.equals(now)) { int row = i; worker.execute(() -> replace(row, old, now)); }
+            }
+            if (removed - overlap > INCREMENTAL_LIMIT) { full = true; break; }
+            if (removed > overlap) { List<Candidate> gone = new ArrayList<>(ch.getRemoved().subList(overlap, removed)); int at = from + overlap; worker.execute(() -> truncate(at, gone)); }
+            if (added > overlap) {
+                int at = from + overlap, end = from + added;
+                List<Candidate> tail = columns == null ? new ArrayList<>(ch.getAddedSubList().subList(overlap, added)) : null; // the worker reads columnar rows itself
+                worker.execute(() -> append(at, end, tail));
+            }
+            described = from + added + (described - from - removed);
+        }
+        if (full) rebuild();
+        described = source.size();
+        if (!CandidateQuery.parse(queryText).isEmpty()) schedule(debounceMs);
+    }
+
+    /** Rebuilds from scratch on the worker; the current index keeps answering until the new one is swapped in. */
+    private void rebuild() {
+        List<Candidate> snapshot = columns == null ? new ArrayList<>(source) : null;
+        worker.execute(() -> {
+            Map<Long, Postings> fresh = new HashMap<>();
+            int n;
+            if (columns == null) {
+                n = snapshot.size();
+                for (int i = 0; i < n; i++) index(fresh, i, snapshot.get(i));
+            } else {
+                n = 0;
+                for (boolean more = true; more; ) {
+                    columns.readLock().lock();
+                    try {
+                        int end = Math.min(columns.size(), n + CHUNK);
+                        for (; n < end; n++) index(fresh, n, columns.get(n));
+                        more = n < columns.size();
+                    } finally {
+                        columns.readLock().unlock();
+                    }
+                }
+            }
+            lock.writeLock().lock();
+            try { grams = fresh; indexed = n; if (columns == null) rows = snapshot; } finally { lock.writeLock().unlock(); }
+        });
+    }
+
+    private void replace(int row, Candidate old, Candidate now) {
+        lock.writeLock().lock();
+        try {
+            if (row >= indexed) return; // a pending rebuild or append covers it
+            unindex(row, old);
+            if (columns == null) rows.set(row, now);
+            index(grams, row, now);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void truncate(int size, List<Candidate> gone) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < gone.size() && size + i < indexed; i++) unindex(size + i, gone.get(i));
+            if (columns == null && rows.size() > size) rows.subList(size, rows.size()).clear();
+            indexed = Math.min(indexed, size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Indexes rows {@code [from, to)}: from {@code tail} for a mirrored source, else from the column store in chunks. */
+    private void append(int from, int to, List<Candidate> tail) {
+        if (tail != null) {
+            lock.writeLock().lock();
+            try {
+                if (from != indexed) return; // covered by a rebuild
+                for (int i = 0; i < tail.size(); i++) { rows.add(tail.get(i)); index(grams, from + i, tail.get(i)); }
+                indexed = to;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+        for (int at = from; at < to; ) {
+            lock.writeLock().lock();
+            columns.readLock().lock();
+            try {
+                if (at != indexed) return;
+                int end = Math.min(Math.min(to, at + CHUNK), columns.size());
+                if (end <= at) return; // the rows went away again; the change that removed them is queued
+                for (; at < end; at++) index(grams, at, columns.get(at));
+                indexed = at;
+            } finally {
+                columns.readLock().unlock();
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /** Removes row {@code row} from the postings of {@code c}'s trigrams, dropping lists that empty. */
+    private void unindex(int row, Candidate c) {
+        forEachGram(c, g -> {
+            Postings p = grams.get(g);
+            if (p == null) return;
+            p.remove(row);
+            if (p.size == 0) grams.remove(g);
+        });
+    }
+
+    /** Adds row {@code i} to the postings of every trigram in its name, email and role. */
+    private static void index(Map<Long, Postings> into, int row, Candidate c) {
+        forEachGram(c, g -> into.computeIfAbsent(g, k -> new Postings()).add(row));
+    }
+
+    private static void forEachGram(Candidate c, LongConsumer action) {
+        for (String s : new String[] { c.name, c.email, c.role }) {
+            if (s == null) continue;
+            String lower = s.toLowerCase(Locale.ROOT);
+            for (int i = 0; i + 3 <= lower.length(); i++) action.accept(gram(lower, i));
+        }
+    }
+
+    private static long gram(String s, int i) { return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2); }
+}
@@ -0,0 +1,26 @@
+package com.example;
+
+/**
+ * Hiring pipeline statuses, with the labels stored in {@code candidates.csv}.
+ */
+enum CandidateStatus {
+    HIRED("HIRED"), SHORTLISTED("SHORTLISTED"), ON_HOLD("ON HOLD"), REJECTED("REJECTED");
+
+    private static final CandidateStatus[] VALUES = values();
+
+    final String label;
+
+    CandidateStatus(String label) { this.label = label; }
+
+    /**
+     * Maps a stored label back to its status; unknown labels count as on hold. Labels
+     * read from the column store are these very instances, so the identity check hits first.
+     */
+    static CandidateStatus of(String label) {
+        for (CandidateStatus s : VALUES) if (s.label == label) return s;
+        for (CandidateStatus s : VALUES) if (s.label.equals(label)) return s;
+        return ON_HOLD;
+    }
+
+    static CandidateStatus ofOrdinal(int ordinal) { return VALUES[ordinal]; }
+}
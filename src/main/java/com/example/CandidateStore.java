@@ -0,0 +1,31 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Persistence engine for the candidate database.
+ * Records are addressed by their position in the candidate list, so a
+ * put at {@code size()} appends and a put below it replaces.
+ */
+interface CandidateStore extends Closeable {
+
+    /** Rebuilds the full candidate list from durable storage. */
+    List<Candidate> load() throws IOException;
+
+    /** Records a new or changed candidate at the given list position. */
+    void put(int index, Candidate c) throws IOException;
+
+    /** Records a run of consecutive rows starting at {@code from} as one batch. */
+    void putAll(int from, List<? extends Candidate> rows) throws IOException;
+
+    /** Forces every pending record to disk. */
+    void flush() throws IOException;
+
+    /** Flushes, folds pending records into the snapshot and releases the store. */
+    @Override
+    void close() throws IOException;
+}
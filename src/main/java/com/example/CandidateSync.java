@@ -0,0 +1,176 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Picks up what other instances write to the shared candidate files.
+ * <p>
+ * A daemon thread watches the data directory. When the journal or snapshot changes, it
+ * waits briefly so a burst of appends is read in one go, and has the store read the new
+ * journal bytes on a second thread. It then hands {@code onChanges} to {@code deliver}
+ * (the FX thread in the app), which drains the store and applies the rows with
+ * {@link #merge}. When the store needs a full reload, that thread also re-reads the files
+ * and diffs them against the list, so {@code onReload} only receives the rows that
+ * differ; see {@link #apply}. The store also calls back when changes it held back behind
+ * queued local edits can be delivered. Nothing here touches the files on the caller's thread.
+ */
+final class CandidateSync implements Closeable {
+
+    static final long DEBOUNCE_MS = 50;
+
+    static final int DIFF_CHUNK = 16_384; // rows compared per hold of the list's read lock
+
+    private final JournaledCandidateStore store;
+    private final ColumnarCandidateList list;
+    private final Executor deliver;
+    private final Runnable onChanges;
+    private final Consumer<Diff> onReload;
+    private final WatchService watcher;
+    private final Thread thread;
+    private final ExecutorService reader = Executors.newSingleThreadExecutor(r -> { Thread t = new Thread(r, "candidate-sync-read"); t.setDaemon(true); return t; });
+
+    /**
+     * What turns the caller's list into a reloaded one. A row is replaced only while the list
+     * still holds the value it was compared with, so an edit made in between is kept (and
+     * journaled); the tail is cut or extended at the size the list had then.
+     */
+    static final class Diff {
+        final int[] rows; final List<Candidate> before, after;
+        final int size; final List<Candidate> tail; final int newSize;
+        Diff(int[] rows, List<Candidate> before, List<Candidate> after, int size, List<Candidate> tail, int newSize) {
+            this.rows = rows; this.before = before; this.after = after; this.size = size; this.tail = tail; this.newSize = newSize;
+        }
+    }
+
+    CandidateSync(JournaledCandidateStore store, ColumnarCandidateList list, Executor deliver, Runnable onChanges, Consumer<Diff> onReload) throws IOException {
+        this.store = store;
+        this.list = list;
+        this.deliver = deliver;
+        this.onChanges = onChanges;
+        this.onReload = onReload;
+        Path dir = store.journalFile().toAbsolutePath().getParent();
+        this.watcher = dir.getFileSystem().newWatchService();
+        dir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        store.onRemote(() -> deliver.execute(onChanges));
+        this.thread = new Thread(this::run, "candidate-sync");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Reads the journal on the sync thread; call when {@link JournaledCandidateStore#drainRemote()} returned null. */
+    void poll() {
+        try { reader.execute(this::pollNow); } catch (RejectedExecutionException e) { /* closed */ }
+    }
+
+    private void pollNow() {
+        try {
+            if (!store.pollJournal()) return;
+            if (!store.needsReload()) { deliver.execute(onChanges); return; }
+            Metrics.count("sync_reloads");
+            Diff d = diff(list.columns(), store.reload());
+            deliver.execute(() -> onReload.accept(d));
+        } catch (IOException | RuntimeException e) {
+            Metrics.failure("sync", e);
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean relevant = drain(key);
+                if (!relevant) continue;
+                Thread.sleep(DEBOUNCE_MS);
+                for (WatchKey k; (k = watcher.poll()) != null; ) drain(k);
+                poll();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    /** Consumes the key's events; true when one may concern the store's files. */
+    private boolean drain(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> e : key.pollEvents()) {
+            if (e.kind() == StandardWatchEventKinds.OVERFLOW) { relevant = true; continue; }
+            Path name = (Path) e.context();
+            if (name.equals(store.journalFile().getFileName()) || name.equals(store.snapshotFile().getFileName())) relevant = true;
+        }
+        key.reset();
+        return relevant;
+    }
+
+    /** Applies drained changes in order; runs of consecutive inserts go in as one {@code addAll}. */
+    static void merge(List<JournaledCandidateStore.Change> changes, List<Candidate> target) {
+        for (int i = 0; i < changes.size(); ) {
+            JournaledCandidateStore.Change c = changes.get(i);
+            if (!c.insert) {
+                if (!c.superseded) target.set(c.index, c.row);
+                i++;
+                continue;
+            }
+            List<Candidate> run = new ArrayList<>();
+            int j = i;
+            while (j < changes.size() && changes.get(j).insert && changes.get(j).index == c.index + (j - i)) run.add(changes.get(j++).row);
+            target.addAll(c.index, run);
+            i = j;
+        }
+    }
+
+    /**
+     * Compares the list, a chunk at a time under its read lock, with the reloaded rows.
+     * The list may change between chunks; {@link #apply} checks each row again.
+     */
+    static Diff diff(CandidateColumnStore columns, List<Candidate> reloaded) {
+        List<Integer> rows = new ArrayList<>();
+        List<Candidate> before = new ArrayList<>(), after = new ArrayList<>();
+        int size;
+        columns.readLock().lock();
+        try { size = columns.size(); } finally { columns.readLock().unlock(); }
+        int overlap = Math.min(size, reloaded.size());
+        for (int from = 0; from < overlap; from += DIFF_CHUNK) {
+            columns.readLock().lock();
+            try {
+                for (int i = from, to = Math.min(Math.min(overlap, from + DIFF_CHUNK), columns.size()); i < to; i++) {
+                    if (columns.rowEquals(i, reloaded.get(i))) continue;
+                    rows.add(i); before.add(columns.get(i)); after.add(reloaded.get(i));
+                }
+            } finally { columns.readLock().unlock(); }
+        }
+        List<Candidate> tail = reloaded.size() > size ? new ArrayList<>(reloaded.subList(size, reloaded.size())) : List.of();
+        return new Diff(rows.stream().mapToInt(Integer::intValue).toArray(), before, after, size, tail, reloaded.size());
+    }
+
+    /** Applies a reload diff to the list (on the caller's thread) and lets the store journal again. */
+    void apply(Diff d) {
+        list.replaceUnchanged(d.rows, d.before, d.after);
+        int n = list.size();
+        if (d.newSize > d.size) list.addAll(Math.min(d.size, n), d.tail);
+        else if (d.newSize < d.size && n >= d.size) list.remove(d.newSize, d.size);
+        store.reloadApplied(d.size);
+    }
+
+    @Override
+    public void close() throws IOException {
+        store.onRemote(null);
+        reader.shutdown();
+        watcher.close(); // not an interrupt: that would close the store's channels mid-read
+    }
+}
@@ -0,0 +1,130 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import javafx.collections.ModifiableObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@code ObservableList} view over a {@link CandidateColumnStore}, so list views, the
+ * journal and the dashboard keep binding to an ordinary list.
+ * <p>
+ * Elements are materialized on {@link #get(int)}, so two reads of a row are equal but
+ * not identical; compare with {@code equals}. Bulk operations write the columns once
+ * and fire a single change, and {@link #setAll(Collection)} only reports the rows whose
+ * values actually differ.
+ */
+final class ColumnarCandidateList extends ModifiableObservableListBase<Candidate> {
+
+    static final int SEARCH = 64; // rows either side replaceUnchanged looks for a row that moved
+
+    private final CandidateColumnStore columns;
+
+    ColumnarCandidateList(CandidateColumnStore columns) { this.columns = columns; }
+
+    CandidateColumnStore columns() { return columns; }
+
+    @Override public Candidate get(int index) { return columns.get(index); }
+
+    @Override public int size() { return columns.size(); }
+
+    @Override protected void doAdd(int index, Candidate c) { columns.insertAll(index, List.of(c)); }
+
+    @Override protected Candidate doSet(int index, Candidate c) {
+        Candidate old = columns.get(index);
+        columns.set(index, c);
+        return old;
+    }
+
+    @Override protected Candidate doRemove(int index) {
+        Candidate old = columns.get(index);
+        columns.remove(index, index + 1);
+        return old;
+    }
+
+    @Override public boolean addAll(Collection<? extends Candidate> c) { return addAll(size(), c); }
+
+    @Override public boolean addAll(int index, Collection<? extends Candidate> c) {
+        if (c.isEmpty()) return false;
+        List<? extends Candidate> rows = new ArrayList<>(c); // c may be a view of this list
+        beginChange();
+        try {
+            columns.insertAll(index, rows);
+            modCount++;
+            nextAdd(index, index + rows.size());
+        } finally { endChange(); }
+        return true;
+    }
+
+    @Override protected void removeRange(int from, int to) {
+        if (from >= to) return;
+        beginChange();
+        try {
+            List<Candidate> removed = materialize(from, to);
+            columns.remove(from, to);
+            modCount++;
+            nextRemove(from, removed);
+        } finally { endChange(); }
+    }
+
+    /** Replaces the contents, reporting only rows that changed plus the grown or shrunk tail. */
+    @Override public boolean setAll(Collection<? extends Candidate> c) {
+        List<? extends Candidate> rows = c instanceof List && c != this ? (List<? extends Candidate>) c : new ArrayList<>(c);
+        beginChange();
+        try {
+            int n = size(), m = rows.size(), overlap = Math.min(n, m);
+            for (int i = 0; i < overlap; i++) {
+                Candidate next = rows.get(i);
+                if (columns.rowEquals(i, next)) continue;
+                Candidate old = columns.get(i);
+                columns.set(i, next);
+                nextSet(i, old);
+            }
+            if (m > n) { columns.insertAll(n, rows.subList(n, m)); nextAdd(n, m); }
+            else if (n > m) { List<Candidate> removed = materialize(m, n); columns.remove(m, n); nextRemove(m, removed); }
+            modCount++;
+        } finally { endChange(); }
+        return true;
+    }
+
+    /**
+     * Sets the row that still holds {@code before.get(k)} to {@code after.get(k)}, in one change.
+     * Rows are expected in ascending order. Each is looked for at {@code rows[k]} moved by as far
+     * as the previous one had moved, then up to {@link #SEARCH} rows either side, so rows added or
+     * removed since the caller looked do not misplace updates; rows edited meanwhile are left alone.
+     * Returns how many were replaced.
+     */
+    int replaceUnchanged(int[] rows, List<Candidate> before, List<Candidate> after) {
+        int replaced = 0, shift = 0;
+        beginChange();
+        try {
+            for (int k = 0; k < rows.length; k++) {
+                int i = find(rows[k] + shift, before.get(k));
+                if (i < 0) continue;
+                shift = i - rows[k];
+                columns.set(i, after.get(k));
+                nextSet(i, before.get(k));
+                replaced++;
+            }
+            if (replaced > 0) modCount++;
+        } finally { endChange(); }
+        return replaced;
+    }
+
+    private int find(int around, Candidate c) {
+        for (int d = 0; d <= SEARCH; d++) {
+            if (around - d >= 0 && around - d < size() && columns.rowEquals(around - d, c)) return around - d;
+            if (d > 0 && around + d >= 0 && around + d < size() && columns.rowEquals(around + d, c)) return around + d;
+        }
+        return -1;
+    }
+
+    private List<Candidate> materialize(int from, int to) {
+        List<Candidate> out = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) out.add(columns.get(i));
+        return out;
+    }
+}
@@ -0,0 +1,586 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead journaled candidate store.
+ * <p>
+ * The snapshot is the plain {@code candidates.csv} file the app has always written.
+ * Every put is appended to {@code candidates.csv.journal} as one checksummed line and
+ * fsynced in batches by a background thread, so a save costs one record instead of
+ * one full rewrite. Once the journal grows past a threshold it is rotated and folded
+ * into a fresh snapshot on a thread of its own, so appends and fsyncs go on during the
+ * merge; {@link #close()} leaves the journal to be replayed by the next load. While the
+ * snapshot has rows that cannot be read, it is not compacted, since the rewrite would drop them. Records address list positions, which makes
+ * replay idempotent: a crash half-way through compaction simply replays the rotated
+ * journal on top of whichever snapshot survived.
+ * <p>
+ * Several instances may share the files. Every read and append happens under an advisory
+ * lock on {@code candidates.csv.lock}. Appends take it on the worker, and {@link #pollJournal()}
+ * and {@link #reload()} are meant for a background thread too ({@link CandidateSync} has one),
+ * so the thread that edits the list never waits for another instance. Before appending, an instance reads the journal past its own offset. It queues
+ * what other instances wrote as {@link Change}s for {@link #drainRemote()}, and moves its
+ * own records to the shared positions: new rows go after everyone else's, and an edit of
+ * a row that another instance edited since this one last looked is counted as a conflict
+ * (the later write wins). A rotated journal is followed while it exists; once another
+ * instance has merged it away, {@link #drainRemote()} asks for a full {@link #reload()},
+ * and local edits are held until then and applied to the reloaded list, and again until
+ * {@link #reloadApplied} reports that the caller's list has caught up.
+ */
+final class JournaledCandidateStore implements CandidateStore {
+
+    static final long DEFAULT_SYNC_INTERVAL_MS = 200;
+    static final int DEFAULT_COMPACT_THRESHOLD = 10_000;
+
+    private static final char PUT = 'P', TRUNCATE = 'T';
+
+    private static final Map<Path, ReentrantLock> IN_PROCESS = new ConcurrentHashMap<>(); // a FileLock covers the whole JVM, so its threads queue here
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final Path snapshot, journal, rotated, tmpSnapshot, lockFile;
+    private final int compactThreshold;
+    private final ScheduledExecutorService worker;
+    private final ExecutorService compactor;
+    private final Object lock = new Object();
+    private final ReentrantLock fileMutex;
+    private FileChannel lockChannel; // guarded by fileMutex
+
+    // --- Guarded by lock ---
+    private FileChannel out;
+    private boolean dirty;
+    private int journalRecords;
+    private Future<?> compaction;
+    private long unreadableSnapshotRows; // snapshot rows the importer skips; compaction would drop them, so it is off
+
+    // --- Shared-journal view, guarded by lock ---
+    private Object journalKey;           // identity of the journal file out writes to
+    private long offset;                 // journal bytes applied locally or queued in remote
+    private int sharedSize, localSize;   // rows in the files as of offset / in the caller's list
+    private final ArrayDeque<Change> remote = new ArrayDeque<>();
+    private int[] remoteInserts = new int[16]; // shared positions of queued inserts, ascending
+    private int remoteInsertCount;
+    private boolean reloadNeeded;
+    private boolean reloadApplying; // a reload was read but the caller's list is not yet updated
+    private long conflicts;
+
+    // --- Local edits not yet journaled, guarded by lock ---
+    private final List<Edit> outbox = new ArrayList<>();
+    private boolean outboxScheduled;
+    private volatile Runnable onRemote;
+
+    private static final class Edit {
+        final char op; final int from; final List<Candidate> rows;
+        Edit(char op, int from, List<Candidate> rows) { this.op = op; this.from = from; this.rows = rows; }
+    }
+
+    /**
+     * A record another instance appended. Applied in drain order, {@code index} is a
+     * position in the caller's list: inserts add a row there, the rest replace one.
+     */
+    static final class Change {
+        final int index; final Candidate row; final boolean insert;
+        boolean superseded; // a later local edit of the same row already won in the journal
+        Change(int index, Candidate row, boolean insert) { this.index = index; this.row = row; this.insert = insert; }
+    }
+
+    JournaledCandidateStore(Path snapshot) { this(snapshot, DEFAULT_SYNC_INTERVAL_MS, DEFAULT_COMPACT_THRESHOLD); }
+
+    JournaledCandidateStore(Path snapshot, long syncIntervalMs, int compactThreshold) {
+        this.snapshot = snapshot.toAbsolutePath();
+        this.journal = sibling(".journal");
+        this.rotated = sibling(".journal.old");
+        this.tmpSnapshot = sibling(".tmp." + ProcessHandle.current().pid() + "-" + INSTANCES.incrementAndGet()); // merges of one rotation may run in two instances
+        this.lockFile = sibling(".lock");
+        this.fileMutex = IN_PROCESS.computeIfAbsent(lockFile, f -> new ReentrantLock());
+        this.compactThreshold = compactThreshold;
+        this.worker = Executors.newSingleThreadScheduledExecutor(r -> { Thread t = new Thread(r, "candidate-journal"); t.setDaemon(true); return t; });
+        worker.scheduleWithFixedDelay(this::syncQuietly, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+        this.compactor = Executors.newSingleThreadExecutor(r -> { Thread t = new Thread(r, "candidate-compact"); t.setDaemon(true); return t; });
+    }
+
+    private Path sibling(String suffix) { return snapshot.resolveSibling(snapshot.getFileName() + suffix); }
+
+    @Override
+    public List<Candidate> load() throws IOException {
+        return withFileLock(this::readShared);
+    }
+
+    /**
+     * Re-reads the full shared list after {@link #drainRemote()} returned null; held local edits
+     * are applied to it. Local edits are then held again, and remote changes deferred, until
+     * {@link #reloadApplied} says the caller's list has caught up.
+     */
+    List<Candidate> reload() throws IOException {
+        return withFileLock(() -> { List<Candidate> list = readShared(); synchronized (lock) { reloadApplying = true; } return list; });
+    }
+
+    /**
+     * The caller's list now matches the last {@link #reload()}. Rows it appended at or past
+     * {@code oldSize} meanwhile moved by the length difference, and edits of them are moved too.
+     */
+    void reloadApplied(int oldSize) {
+        boolean pending;
+        synchronized (lock) {
+            reloadApplying = false;
+            int shift = localSize - oldSize;
+            for (int k = 0; k < outbox.size() && shift != 0; k++) {
+                Edit e = outbox.get(k);
+                if (e.from >= oldSize) outbox.set(k, new Edit(e.op, e.from + shift, e.rows));
+            }
+            if (!outbox.isEmpty() && !outboxScheduled) { outboxScheduled = true; worker.execute(this::writeQueued); }
+            pending = outbox.isEmpty() && (reloadNeeded || !remote.isEmpty()); // otherwise writeQueued reports them
+        }
+        Runnable listener = onRemote;
+        if (pending && listener != null) listener.run();
+    }
+
+    /** True when {@link #drainRemote()} would ask for a {@link #reload()}. */
+    boolean needsReload() { synchronized (lock) { return reloadNeeded && !reloadApplying; } }
+
+    @Override
+    public void put(int index, Candidate c) throws IOException { write(PUT, index, List.of(c)); }
+
+    @Override
+    public void putAll(int from, List<? extends Candidate> rows) throws IOException { write(PUT, from, rows); }
+
+    /** Records that the list was cut down to {@code size} entries. */
+    void truncate(int size) throws IOException { write(TRUNCATE, size, List.of()); }
+
+    /** Queues a local edit; the worker takes the file lock and journals it, so callers never wait for other instances. */
+    private void write(char op, int from, List<? extends Candidate> rows) {
+        for (Candidate c : rows) if (!c.csvSafe()) throw new IllegalArgumentException("Candidate field contains a comma or line break: " + c.name);
+        synchronized (lock) {
+            if (out == null) throw new IllegalStateException("Store is not loaded");
+            outbox.add(new Edit(op, from, new ArrayList<>(rows)));
+            if (!outboxScheduled) { outboxScheduled = true; worker.execute(this::writeQueued); }
+        }
+    }
+
+    private void writeQueued() {
+        boolean pendingRemote;
+        try {
+            pendingRemote = withFileLock(() -> {
+                synchronized (lock) {
+                    outboxScheduled = false;
+                    if (out == null || outbox.isEmpty()) return false;
+                    catchUp();
+                    if (!reloadNeeded && !reloadApplying) writeEdits(null);
+                    return reloadNeeded || !remote.isEmpty();
+                }
+            });
+        } catch (IOException e) {
+            synchronized (lock) { outboxScheduled = false; } // kept queued; retried with the next edit or flush
+            Metrics.failure("journal", e);
+            return;
+        }
+        Runnable listener = onRemote;
+        if (pendingRemote && listener != null) listener.run(); // drainRemote deferred these while the edits were queued
+    }
+
+    /**
+     * Journals the queued local edits at their shared positions. During a reload {@code shared}
+     * is the freshly read list: the edits are applied to it too, and edits of rows it no longer
+     * has are dropped as conflicts.
+     */
+    private void writeEdits(List<Candidate> shared) throws IOException {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(1 << 16);
+        int pending = 0;
+        for (Edit e : outbox) {
+            if (e.op == TRUNCATE) {
+                int at = truncateAt(e.from);
+                if (shared != null && at < shared.size()) shared.subList(at, shared.size()).clear();
+                batch.writeBytes(encode(TRUNCATE, at, "")); pending++;
+                continue;
+            }
+            for (int i = 0; i < e.rows.size(); i++) {
+                int at = putAt(e.from + i);
+                Candidate c = e.rows.get(i);
+                if (shared != null) {
+                    if (at > shared.size()) { conflict(); continue; }
+                    if (at == shared.size()) shared.add(c); else shared.set(at, c);
+                }
+                batch.writeBytes(encode(PUT, at, c.toCSV())); pending++;
+                if (batch.size() >= 1 << 20) { append(batch.toByteArray(), pending); batch.reset(); pending = 0; }
+            }
+        }
+        if (pending > 0) append(batch.toByteArray(), pending);
+        outbox.clear();
+    }
+
+    private void append(byte[] records, int count) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(records);
+        while (buf.hasRemaining()) out.write(buf);
+        offset += records.length;
+        dirty = true;
+        if ((journalRecords += count) >= compactThreshold) compactLater();
+    }
+
+    private void compactLater() {
+        if (unreadableSnapshotRows == 0 && (compaction == null || compaction.isDone())) compaction = compactor.submit(this::compactQuietly);
+    }
+
+    // --- Multi-instance sync ---
+    Path snapshotFile() { return snapshot; }
+    Path journalFile() { return journal; }
+
+    /** Edits of this instance that overwrote another instance's unseen edit of the same row. */
+    long conflicts() { synchronized (lock) { return conflicts; } }
+
+    /** Called on the worker when remote changes that {@link #drainRemote()} held back can be delivered. */
+    void onRemote(Runnable listener) { onRemote = listener; }
+
+    /** Reads what other instances appended since the last look; true when {@link #drainRemote()} has something. */
+    boolean pollJournal() throws IOException {
+        return withFileLock(() -> { synchronized (lock) { if (out == null) return false; catchUp(); return reloadNeeded || !remote.isEmpty(); } });
+    }
+
+    /**
+     * Hands over the queued changes of other instances, to be applied in order to the
+     * caller's list; null when the list must be replaced by {@link #reload()} instead.
+     * Empty while local edits are still queued, as those use the positions from before
+     * the changes, and while a reload is being applied; {@link #onRemote} fires once
+     * they can be delivered.
+     */
+    List<Change> drainRemote() {
+        synchronized (lock) {
+            if (reloadApplying) return List.of();
+            if (reloadNeeded) return null;
+            if (!outbox.isEmpty()) return List.of();
+            List<Change> changes = new ArrayList<>(remote);
+            remote.clear();
+            localSize += remoteInsertCount;
+            remoteInsertCount = 0;
+            return changes;
+        }
+    }
+
+    /**
+     * Reads the snapshot, the rotated journal and the journal, then journals any held local
+     * edits on top; the caller's list is then the shared list. Runs under the file lock, which
+     * keeps the files still; {@link #lock} is only taken around the state updates, so local
+     * edits can still be queued while the files are read.
+     */
+    private List<Candidate> readShared() throws IOException {
+        synchronized (lock) { if (out != null) catchUp(); } // maps the held edits as far as the journal still allows
+        CandidateCsvImporter.Result snap = readSnapshot(snapshot);
+        List<Candidate> list = snap.candidates;
+        replay(rotated, list, false);
+        int records = replay(journal, list, true);
+        synchronized (lock) {
+            journalRecords = records;
+            unreadableSnapshotRows = snap.malformed;
+            if (out != null && journalReplaced()) { out.close(); out = null; }
+            if (out == null) openJournal();
+            offset = out.size();
+            sharedSize = list.size();
+            writeEdits(list);
+            sharedSize = localSize = list.size();
+            remote.clear(); remoteInsertCount = 0; reloadNeeded = false;
+            if (journalRecords >= compactThreshold || Files.exists(rotated)) compactLater();
+            return list;
+        }
+    }
+
+    private void openJournal() throws IOException {
+        out = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        journalKey = fileKey(journal);
+    }
+
+    private static Object fileKey(Path p) throws IOException {
+        BasicFileAttributes a = Files.readAttributes(p, BasicFileAttributes.class);
+        return a.fileKey() != null ? a.fileKey() : a.creationTime();
+    }
+
+    private boolean journalReplaced() throws IOException {
+        return !Files.exists(journal) || !fileKey(journal).equals(journalKey) || Files.size(journal) < offset;
+    }
+
+    /** Queues the records other instances appended past {@link #offset}. */
+    private void catchUp() throws IOException {
+        if (reloadNeeded) return; // the reload reads everything
+        if (journalReplaced()) {
+            // Another instance rotated the journal. Its tail stays readable until that instance
+            // has merged it; after that only a full reload can tell what changed.
+            boolean followed = Files.exists(rotated) && fileKey(rotated).equals(journalKey);
+            if (followed) readRemote(rotated);
+            out.close();
+            openJournal();
+            offset = 0;
+            if (!followed) { reloadNeeded = true; return; }
+        }
+        readRemote(journal);
+    }
+
+    private void readRemote(Path file) throws IOException {
+        long end = Files.size(file);
+        if (end <= offset) return;
+        ByteBuffer buf = ByteBuffer.allocate((int) (end - offset));
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) { while (buf.hasRemaining() && in.read(buf, offset + buf.position()) >= 0) { } }
+        byte[] data = buf.array();
+        int pos = 0;
+        for (int nl; pos < data.length && (nl = indexOf(data, (byte) '\n', pos)) >= 0; pos = nl + 1) {
+            if (!queueRemote(Record.parse(new String(data, pos, nl - pos, StandardCharsets.UTF_8))))
+                Metrics.failure("sync", new IOException(file.getFileName() + " @" + (offset + pos) + ": skipped unusable record"));
+        }
+        offset += pos; // a line without its newline is still being recovered; it is read once complete
+    }
+
+    /** False when the record cannot be used; replay skips such a record too. */
+    private boolean queueRemote(Record r) {
+        journalRecords++;
+        if (r == null || r.index > sharedSize) return false;
+        Metrics.count("sync_remote_records");
+        if (r.op == TRUNCATE) {
+            sharedSize = r.index;
+            while (remoteInsertCount > 0 && remoteInserts[remoteInsertCount - 1] >= r.index) remoteInsertCount--;
+            reloadNeeded = true;
+            return true;
+        }
+        Candidate c = row(r.csv);
+        if (c == null) return false;
+        boolean insert = r.index == sharedSize;
+        if (insert) {
+            if (remoteInsertCount == remoteInserts.length) remoteInserts = Arrays.copyOf(remoteInserts, remoteInserts.length * 2);
+            remoteInserts[remoteInsertCount++] = sharedSize++;
+        }
+        if (!reloadNeeded) remote.add(new Change(r.index, c, insert));
+        return true;
+    }
+
+    /** Shared position of local row {@code local}: rows past the local end go after every shared row. */
+    private int sharedPosition(int local) {
+        if (local >= localSize) return sharedSize + (local - localSize);
+        int shared = local;
+        for (int i = 0; i < remoteInsertCount && remoteInserts[i] <= shared; i++) shared++;
+        return shared;
+    }
+
+    private int putAt(int local) {
+        int shared = sharedPosition(local);
+        if (local >= localSize) { localSize = local + 1; sharedSize = shared + 1; return shared; }
+        for (Change c : remote) if (!c.insert && !c.superseded && c.index == shared) { c.superseded = true; conflict(); }
+        return shared;
+    }
+
+    private int truncateAt(int local) {
+        int shared = sharedPosition(local);
+        if (remoteInsertCount > 0 && remoteInserts[remoteInsertCount - 1] >= shared) { conflict(); reloadNeeded = true; } // cuts rows this instance has not seen
+        localSize = Math.min(localSize, local); sharedSize = Math.min(sharedSize, shared);
+        return shared;
+    }
+
+    private void conflict() { conflicts++; Metrics.count("sync_conflicts"); }
+
+    private interface LockedIo<T> { T run() throws IOException; }
+
+    /** Runs {@code body} holding the advisory lock file; always taken before {@link #lock}. */
+    private <T> T withFileLock(LockedIo<T> body) throws IOException {
+        fileMutex.lock();
+        try {
+            if (lockChannel == null || !lockChannel.isOpen()) lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            try (FileLock held = lockChannel.lock()) { return body.run(); }
+        } finally {
+            fileMutex.unlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        withFileLock(() -> {
+            synchronized (lock) {
+                if (out == null) return null;
+                if (!outbox.isEmpty()) { catchUp(); if (reloadNeeded) readShared(); else writeEdits(null); }
+                if (dirty) { out.force(false); dirty = false; }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush(); // the journal stays; the next load replays it
+            Future<?> pending;
+            synchronized (lock) { pending = compaction; }
+            if (pending != null) pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IOException("Compaction failed", e.getCause());
+        } finally {
+            worker.shutdownNow();
+            compactor.shutdownNow();
+            synchronized (lock) { if (out != null) { out.close(); out = null; } }
+            fileMutex.lock();
+            try { if (lockChannel != null) { lockChannel.close(); lockChannel = null; } } finally { fileMutex.unlock(); }
+        }
+    }
+
+    // --- Background work ---
+    private void syncQuietly() {
+        FileChannel ch;
+        synchronized (lock) { if (!dirty || out == null) return; ch = out; dirty = false; }
+        try { ch.force(false); } catch (ClosedChannelException e) { /* rotated away; rotation forces before closing */ } catch (IOException e) { Metrics.failure("store_flush", e); }
+    }
+
+    private void compactQuietly() { try { compact(); } catch (IOException e) { Metrics.failure("store_compact", e); } }
+
+    /**
+     * Rotates the live journal (unless an earlier rotation is still pending) and folds it into
+     * the snapshot. Only the rotation holds the locks; the merge runs without them, so the
+     * worker keeps appending to the fresh journal meanwhile. The merge is published only if the
+     * rotated journal it read is still the pending one, since another instance may have merged it first.
+     */
+    private void compact() throws IOException {
+        Object pending = withFileLock(() -> {
+            synchronized (lock) {
+                if (!Files.exists(rotated) && out != null) {
+                    catchUp(); // read everything before the rotation point first
+                    out.force(true); out.close();
+                    move(journal, rotated);
+                    openJournal();
+                    offset = 0; journalRecords = 0; dirty = false;
+                }
+            }
+            return Files.exists(rotated) ? fileKey(rotated) : null;
+        });
+        if (pending == null) return;
+        CandidateCsvImporter.Result snap = readSnapshot(snapshot);
+        if (snap.malformed > 0) {
+            synchronized (lock) { unreadableSnapshotRows = snap.malformed; } // the rotated journal stays and is replayed by every load
+            throw new IOException(snapshot.getFileName() + ": " + snap.malformed + " unreadable rows would be lost; not compacting");
+        }
+        List<Candidate> merged = snap.candidates;
+        replay(rotated, merged, false);
+        try (FileChannel ch = FileChannel.open(tmpSnapshot, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BufferedWriter w = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(ch), StandardCharsets.UTF_8), 1 << 16);
+            for (Candidate c : merged) { w.write(c.toCSV()); w.newLine(); }
+            w.flush(); ch.force(true);
+        }
+        withFileLock(() -> {
+            if (Files.exists(rotated) && fileKey(rotated).equals(pending)) { move(tmpSnapshot, snapshot); Files.delete(rotated); }
+            else Files.deleteIfExists(tmpSnapshot);
+            return null;
+        });
+    }
+
+    private static void move(Path from, Path to) throws IOException {
+        try { Files.move(from, to, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE); }
+        catch (AtomicMoveNotSupportedException e) { Files.move(from, to, StandardCopyOption.REPLACE_EXISTING); }
+    }
+
+    // --- Record format: <P|T><index>\t<crc32 hex>\t<csv>\n ---
+    static byte[] encode(char op, int index, String csv) {
+        byte[] body = csv.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32(); crc.update(op); crc.update(body);
+        return (op + Integer.toString(index) + '\t' + Long.toHexString(crc.getValue()) + '\t' + csv + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static CandidateCsvImporter.Result readSnapshot(Path file) throws IOException {
+        return Files.exists(file) ? CandidateCsvImporter.importFile(file) : new CandidateCsvImporter.Result(new ArrayList<>(), 0);
+    }
+
+    /**
+     * Applies journal records to {@code list} and returns how many were valid.
+     * Replay stops at the first torn or corrupt record; with {@code truncateTail}
+     * that tail is cut off so new records never follow garbage. A record whose checksum
+     * holds but whose row cannot be used is reported and skipped, not treated as the tail.
+     */
+    static int replay(Path file, List<Candidate> list, boolean truncateTail) throws IOException {
+        if (!Files.exists(file)) return 0;
+        byte[] data = Files.readAllBytes(file);
+        int pos = 0, applied = 0;
+        while (pos < data.length) {
+            int nl = indexOf(data, (byte) '\n', pos);
+            if (nl < 0) break;
+            Record r = Record.parse(new String(data, pos, nl - pos, StandardCharsets.UTF_8));
+            if (r == null) break;
+            if (apply(r, list)) applied++;
+            else Metrics.failure("journal_replay", new IOException(file.getFileName() + " @" + pos + ": unusable record " + r.op + r.index));
+            pos = nl + 1;
+        }
+        if (truncateTail && pos < data.length) {
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) { ch.truncate(pos); ch.force(true); }
+        }
+        return applied;
+    }
+
+    /** One checksummed journal line. */
+    private static final class Record {
+        final char op; final int index; final String csv;
+        Record(char op, int index, String csv) { this.op = op; this.index = index; this.csv = csv; }
+
+        /** Parses and verifies a line; null when it is torn, corrupt or of an unknown kind. The row itself is not parsed. */
+        static Record parse(String line) {
+            int t1 = line.indexOf('\t'), t2 = t1 < 0 ? -1 : line.indexOf('\t', t1 + 1);
+            if (t1 < 2 || t2 < 0) return null;
+            char op = line.charAt(0);
+            if (op != PUT && op != TRUNCATE) return null;
+            String csv = line.substring(t2 + 1);
+            try {
+                int index = Integer.parseInt(line, 1, t1, 10);
+                CRC32 crc = new CRC32(); crc.update(op); crc.update(csv.getBytes(StandardCharsets.UTF_8));
+                if (crc.getValue() != Long.parseLong(line, t1 + 1, t2, 16)) return null;
+                return new Record(op, index, csv);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+
+    /** False when the record does not fit {@code list} or its row cannot be read. */
+    private static boolean apply(Record r, List<Candidate> list) {
+        if (r.index > list.size()) return false;
+        if (r.op == TRUNCATE) { list.subList(r.index, list.size()).clear(); return true; }
+        Candidate c = row(r.csv);
+        if (c == null) return false;
+        if (r.index == list.size()) list.add(c); else list.set(r.index, c);
+        return true;
+    }
+
+    /** Null when the journaled row cannot be read. */
+    private static Candidate row(String csv) {
+        try {
+            return Candidate.fromCSV(csv);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static int indexOf(byte[] data, byte b, int from) {
+        for (int i = from; i < data.length; i++) if (data[i] == b) return i;
+        return -1;
+    }
+}
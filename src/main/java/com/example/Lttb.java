@@ -0,0 +1,49 @@
+package com.example;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling of a series whose x values are its indexes.
+ * <p>
+ * Keeps the first and last point and, from each of {@code threshold - 2} equal buckets
+ * in between, the point forming the largest triangle with the point kept before it and
+ * the average of the next bucket. Peaks and dips survive, unlike with averaging or
+ * striding. Runs in O(to - from) and allocates nothing besides the caller's output array.
+ */
+final class Lttb {
+
+    private Lttb() {}
+
+    /**
+     * Writes the indexes of the points to keep from {@code y[from, to)} into {@code out}, in
+     * ascending order, and returns how many were written (at most {@code threshold}).
+     * Every index is kept when the range already fits.
+     */
+    static int downsample(double[] y, int from, int to, int threshold, int[] out) {
+        int n = to - from;
+        if (n <= 0) return 0;
+        if (n <= threshold) { for (int i = 0; i < n; i++) out[i] = from + i; return n; }
+        if (threshold < 3) throw new IllegalArgumentException("threshold must be at least 3, was " + threshold);
+        double every = (double) (n - 2) / (threshold - 2);
+        int a = from, k = 0;
+        out[k++] = a;
+        for (int b = 0; b < threshold - 2; b++) {
+            int nextStart = from + (int) ((b + 1) * every) + 1;
+            int nextEnd = Math.min(from + (int) ((b + 2) * every) + 1, to);
+            double avgX = 0, avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) { avgX += i; avgY += y[i]; }
+            int len = nextEnd - nextStart;
+            if (len > 0) { avgX /= len; avgY /= len; } else { avgX = to - 1; avgY = y[to - 1]; }
+
+            int start = from + (int) (b * every) + 1, end = from + (int) ((b + 1) * every) + 1;
+            double ax = a, ay = y[a], maxArea = -1;
+            int pick = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((ax - avgX) * (y[i] - ay) - (ax - i) * (avgY - ay));
+                if (area > maxArea) { maxArea = area; pick = i; }
+            }
+            out[k++] = pick;
+            a = pick;
+        }
+        out[k++] = to - 1;
+        return k;
+    }
+}
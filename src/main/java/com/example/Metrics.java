@@ -0,0 +1,163 @@
+package com.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide timers, counters and gauges, exported in the Prometheus text format.
+ * <p>
+ * A {@link Timer} is a fixed-bucket latency histogram; recording is a few atomic adds
+ * and never allocates. {@link Timer#start()} additionally emits a {@code com.example.Operation}
+ * JFR event, so the same spans show up in a flight recording alongside GC and I/O.
+ * Failures are counted per operation in {@code candidates_failures_total}.
+ */
+final class Metrics {
+
+    /** Histogram upper bounds in seconds; the last bucket is +Inf. */
+    static final double[] BUCKETS = { 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10 };
+
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> GAUGES = new ConcurrentHashMap<>();
+
+    private Metrics() {}
+
+    @Name("com.example.Operation")
+    @Label("Candidate System Operation")
+    @Category("Candidate System")
+    @Description("A timed application operation, e.g. loading data or refreshing the dashboard")
+    static final class OperationEvent extends Event {
+        @Label("Operation") String operation;
+    }
+
+    /** Latency histogram for one operation. */
+    static final class Timer {
+        final String name;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS.length + 1);
+        private final LongAdder count = new LongAdder(), sumNanos = new LongAdder();
+
+        private Timer(String name) { this.name = name; }
+
+        void record(long nanos) {
+            double s = nanos / 1e9;
+            int b = 0;
+            while (b < BUCKETS.length && s > BUCKETS[b]) b++;
+            buckets.incrementAndGet(b);
+            count.increment();
+            sumNanos.add(nanos);
+        }
+
+        /** Starts a span that records into this timer and emits a JFR event when closed. */
+        Span start() { return new Span(this); }
+
+        long count() { return count.sum(); }
+        double meanMs() { long n = count.sum(); return n == 0 ? 0 : sumNanos.sum() / 1e6 / n; }
+
+        /** Upper bound of the bucket holding quantile {@code q}, in milliseconds; infinite when it falls in the last bucket. */
+        double quantileMs(double q) {
+            long n = count.sum(), seen = 0;
+            if (n == 0) return 0;
+            for (int b = 0; b < BUCKETS.length; b++) { seen += buckets.get(b); if (seen >= q * n) return BUCKETS[b] * 1000; }
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /** An in-flight timing; use with try-with-resources. */
+    static final class Span implements AutoCloseable {
+        private final Timer timer;
+        private final OperationEvent event = new OperationEvent();
+        private final long t0 = System.nanoTime();
+        private Span(Timer timer) { this.timer = timer; event.begin(); }
+        @Override public void close() {
+            timer.record(System.nanoTime() - t0);
+            event.end();
+            if (event.shouldCommit()) { event.operation = timer.name; event.commit(); }
+        }
+    }
+
+    static Timer timer(String name) { return TIMERS.computeIfAbsent(name, Timer::new); }
+
+    /** Shorthand for {@code timer(name).start()}. */
+    static Span time(String name) { return timer(name).start(); }
+
+    static void count(String name) { count(name, 1); }
+    static void count(String name, long n) { COUNTERS.computeIfAbsent(name, k -> new LongAdder()).add(n); }
+    static long counter(String name) { LongAdder a = COUNTERS.get(name); return a == null ? 0 : a.sum(); }
+
+    /** Registers a value sampled at export time, e.g. the number of rows loaded. */
+    static void gauge(String name, LongSupplier value) { GAUGES.put(name, value); }
+
+    /** Counts a failed operation and prints it; for catch blocks that cannot report to the user. */
+    static void failure(String operation, Throwable t) {
+        count("failures{op=\"" + operation + "\"}");
+        t.printStackTrace();
+    }
+
+    // --- Export ---
+    static Map<String, Timer> timers() { return new TreeMap<>(TIMERS); }
+
+    static void writePrometheus(Writer w) throws IOException {
+        w.write("# HELP candidates_operation_seconds Latency of timed application operations.\n");
+        w.write("# TYPE candidates_operation_seconds histogram\n");
+        for (Timer t : timers().values()) {
+            long cumulative = 0;
+            for (int b = 0; b <= BUCKETS.length; b++) {
+                cumulative += t.buckets.get(b);
+                String le = b < BUCKETS.length ? Double.toString(BUCKETS[b]) : "+Inf";
+                w.write("candidates_operation_seconds_bucket{op=\"" + t.name + "\",le=\"" + le + "\"} " + cumulative + "\n");
+            }
+            w.write("candidates_operation_seconds_sum{op=\"" + t.name + "\"} " + t.sumNanos.sum() / 1e9 + "\n");
+            w.write("candidates_operation_seconds_count{op=\"" + t.name + "\"} " + t.count.sum() + "\n");
+        }
+        String lastFamily = null;
+        for (Map.Entry<String, LongAdder> e : new TreeMap<>(COUNTERS).entrySet()) {
+            String family = "candidates_" + family(e.getKey()) + "_total";
+            if (!family.equals(lastFamily)) { w.write("# TYPE " + family + " counter\n"); lastFamily = family; }
+            w.write(family + labels(e.getKey()) + " " + e.getValue().sum() + "\n");
+        }
+        for (Map.Entry<String, LongSupplier> e : new TreeMap<>(GAUGES).entrySet()) {
+            w.write("# TYPE candidates_" + e.getKey() + " gauge\n");
+            w.write("candidates_" + e.getKey() + " " + e.getValue().getAsLong() + "\n");
+        }
+    }
+
+    private static String family(String key) { int i = key.indexOf('{'); return i < 0 ? key : key.substring(0, i); }
+    private static String labels(String key) { int i = key.indexOf('{'); return i < 0 ? "" : key.substring(i); }
+
+    /** Writes the metrics to {@code file} atomically, so a scraper never reads half a file. */
+    static void export(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) { writePrometheus(w); }
+        try { Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE); }
+        catch (AtomicMoveNotSupportedException e) { Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING); }
+    }
+
+    /** Exports to {@code file} every {@code periodSec} seconds on a daemon thread; returns the scheduler to shut down. */
+    static ScheduledExecutorService exportEvery(Path file, long periodSec) {
+        ScheduledExecutorService ex = Executors.newSingleThreadScheduledExecutor(r -> { Thread t = new Thread(r, "metrics-export"); t.setDaemon(true); return t; });
+        ex.scheduleWithFixedDelay(() -> {
+            try { export(file); } catch (IOException e) { failure("metrics_export", e); }
+        }, periodSec, periodSec, TimeUnit.SECONDS);
+        return ex;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Renders offer letters from {@link OfferTemplate}s, one at a time or for a whole hiring round.
+ * <p>
+ * The template for a role is {@code /offers/offer-<role-slug>.html} when it exists and
+ * {@code /offers/offer.html} otherwise; each is compiled once. Batch runs render on
+ * virtual threads and either write one file per candidate or stream every letter into
+ * a single zip through one writer, with at most {@link #MAX_IN_FLIGHT} letters held in memory.
+ */
+final class OfferLetterGenerator {
+
+    /** Receives done / total updates from the rendering threads. */
+    interface Progress { void update(long done, long total); }
+
+    static final int MAX_IN_FLIGHT = 256;
+    private static final String DEFAULT_TEMPLATE = "/offers/offer.html";
+
+    private final Map<String, OfferTemplate> byRole = new ConcurrentHashMap<>();
+    private final OfferTemplate fallback;
+    private final String date = LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"));
+
+    OfferLetterGenerator() throws IOException {
+        fallback = OfferTemplate.fromResource(DEFAULT_TEMPLATE);
+        if (fallback == null) throw new IOException("Missing offer template " + DEFAULT_TEMPLATE);
+    }
+
+    String render(Candidate c) { return templateFor(c.role).render(c, date); }
+
+    private OfferTemplate templateFor(String role) {
+        if (role == null) return fallback;
+        return byRole.computeIfAbsent(role, r -> {
+            try { OfferTemplate t = OfferTemplate.fromResource("/offers/offer-" + slug(r) + ".html"); return t != null ? t : fallback; }
+            catch (IOException e) { throw new UncheckedIOException(e); }
+        });
+    }
+
+    static String slug(String s) { return s.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", ""); }
+
+    /** {@code Offer_<name>.html}, as the single-offer button has always named it, minus path-unsafe characters. */
+    static String fileName(Candidate c) { return "Offer_" + c.name.replaceAll("[^\\p{L}\\p{N}._-]", "_") + ".html"; }
+
+    Path writeOne(Candidate c, Path dir) throws IOException {
+        Path f = dir.resolve(fileName(c));
+        Files.writeString(f, render(c), StandardCharsets.UTF_8);
+        return f;
+    }
+
+    /** Writes one file per candidate into {@code dir}; returns the number written. */
+    int writeAll(List<Candidate> candidates, Path dir, Progress progress) throws IOException, InterruptedException {
+        Files.createDirectories(dir);
+        String[] names = uniqueNames(candidates);
+        AtomicInteger done = new AtomicInteger();
+        run(candidates.size(), i -> {
+            Files.writeString(dir.resolve(names[i]), render(candidates.get(i)), StandardCharsets.UTF_8);
+            progress.update(done.incrementAndGet(), candidates.size());
+        });
+        return done.get();
+    }
+
+    /** Renders in parallel and streams every letter into one zip; returns the number written. */
+    int writeZip(List<Candidate> candidates, Path zip, Progress progress) throws IOException, InterruptedException {
+        String[] names = uniqueNames(candidates);
+        BlockingQueue<Object[]> rendered = new ArrayBlockingQueue<>(MAX_IN_FLIGHT);
+        AtomicBoolean writerGone = new AtomicBoolean();
+        Thread producer = Thread.ofVirtual().name("offer-render").start(() -> {
+            Object[] end; // empty marks success, a single element carries the failure
+            try { run(candidates.size(), i -> handOver(rendered, new Object[] { names[i], render(candidates.get(i)).getBytes(StandardCharsets.UTF_8) }, writerGone)); end = new Object[0]; }
+            catch (Exception e) { end = new Object[] { e }; }
+            try { handOver(rendered, end, writerGone); } catch (InterruptedException e) { /* writer already gave up */ }
+        });
+        int written = 0;
+        try (OutputStream out = Files.newOutputStream(zip); ZipOutputStream zos = new ZipOutputStream(out)) {
+            while (true) {
+                Object[] item = rendered.take();
+                if (item.length == 0) break;
+                if (item.length == 1) throw item[0] instanceof IOException ? (IOException) item[0] : new IOException((Exception) item[0]);
+                zos.putNextEntry(new ZipEntry((String) item[0]));
+                zos.write((byte[]) item[1]);
+                zos.closeEntry();
+                progress.update(++written, candidates.size());
+            }
+        } finally {
+            writerGone.set(true);
+            producer.interrupt();
+            rendered.clear();
+        }
+        return written;
+    }
+
+    /** Queues {@code item} for the zip writer; gives up instead of blocking once the writer has stopped reading. */
+    private static void handOver(BlockingQueue<Object[]> queue, Object[] item, AtomicBoolean writerGone) throws InterruptedException {
+        while (!queue.offer(item, 100, TimeUnit.MILLISECONDS)) if (writerGone.get()) throw new InterruptedException("Zip writer stopped");
+    }
+
+    private interface Job { void run(int i) throws Exception; }
+
+    /** Runs {@code job} for every index on virtual threads, at most {@link #MAX_IN_FLIGHT} at a time. */
+    private static void run(int n, Job job) throws IOException, InterruptedException {
+        Semaphore permits = new Semaphore(MAX_IN_FLIGHT);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        try (ExecutorService ex = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < n && failure.get() == null; i++) {
+                permits.acquire();
+                int idx = i;
+                ex.submit(() -> {
+                    try { job.run(idx); }
+                    catch (Exception e) { failure.compareAndSet(null, e); }
+                    finally { permits.release(); }
+                });
+            }
+        }
+        Exception e = failure.get();
+        if (e instanceof IOException) throw (IOException) e;
+        if (e instanceof InterruptedException) throw (InterruptedException) e;
+        if (e != null) throw new IOException(e);
+    }
+
+    /** File names that stay distinct on case-insensitive file systems too. */
+    static String[] uniqueNames(List<Candidate> candidates) {
+        Set<String> seen = new HashSet<>();
+        String[] names = new String[candidates.size()];
+        for (int i = 0; i < names.length; i++) {
+            String base = fileName(candidates.get(i)), name = base;
+            for (int k = 2; !seen.add(name.toLowerCase(Locale.ROOT)); k++) name = base.replace(".html", "_" + k + ".html");
+            names[i] = name;
+        }
+        return names;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Offer letter template compiled once into literal and placeholder segments.
+ * <p>
+ * Placeholders are {@code {{name}}}, {@code {{email}}}, {@code {{role}}},
+ * {@code {{tech}}}, {@code {{comm}}}, {@code {{exp}}}, {@code {{avg}}} and
+ * {@code {{date}}}. Every substituted value is HTML-escaped. Immutable, so one
+ * instance is shared by all rendering threads.
+ */
+final class OfferTemplate {
+
+    enum Field { NAME, EMAIL, ROLE, TECH, COMM, EXP, AVG, DATE }
+
+    private final String[] literals; // literals[i] precedes fields[i]; the last literal closes the document
+    private final Field[] fields;
+
+    private OfferTemplate(String[] literals, Field[] fields) { this.literals = literals; this.fields = fields; }
+
+    static OfferTemplate compile(String source) {
+        List<String> lits = new ArrayList<>();
+        List<Field> refs = new ArrayList<>();
+        int pos = 0;
+        while (true) {
+            int open = source.indexOf("{{", pos);
+            int close = open < 0 ? -1 : source.indexOf("}}", open + 2);
+            if (close < 0) break;
+            String key = source.substring(open + 2, close).trim().toUpperCase();
+            Field f;
+            try { f = Field.valueOf(key); }
+            catch (IllegalArgumentException e) { throw new IllegalArgumentException("Unknown offer placeholder {{" + key.toLowerCase() + "}}"); }
+            lits.add(source.substring(pos, open));
+            refs.add(f);
+            pos = close + 2;
+        }
+        lits.add(source.substring(pos));
+        return new OfferTemplate(lits.toArray(new String[0]), refs.toArray(new Field[0]));
+    }
+
+    /** Loads and compiles a classpath template, or returns null when it does not exist. */
+    static OfferTemplate fromResource(String path) throws IOException {
+        try (InputStream in = OfferTemplate.class.getResourceAsStream(path)) {
+            return in == null ? null : compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    String render(Candidate c, String date) {
+        StringBuilder sb = new StringBuilder(512);
+        for (int i = 0; i < fields.length; i++) {
+            sb.append(literals[i]);
+            escape(sb, value(c, fields[i], date));
+        }
+        return sb.append(literals[fields.length]).toString();
+    }
+
+    private static String value(Candidate c, Field f, String date) {
+        switch (f) {
+            case NAME: return c.name;
+            case EMAIL: return c.email;
+            case ROLE: return c.role;
+            case TECH: return String.valueOf(c.tech);
+            case COMM: return String.valueOf(c.comm);
+            case EXP: return String.valueOf(c.exp);
+            case AVG: return String.valueOf(c.avg);
+            default: return date;
+        }
+    }
+
+    static void escape(StringBuilder sb, String s) {
+        if (s == null) return;
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            switch (ch) {
+                case '&': sb.append("&amp;"); break;
+                case '<': sb.append("&lt;"); break;
+                case '>': sb.append("&gt;"); break;
+                case '"': sb.append("&quot;"); break;
+                case '\'': sb.append("&#39;"); break;
+                default: sb.append(ch);
+            }
+        }
+    }
+}
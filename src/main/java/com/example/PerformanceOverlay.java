@@ -0,0 +1,43 @@
+package com.example;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.util.Duration;
+
+import java.util.Map;
+
+/**
+ * Small on-screen readout of the live metrics: pulse timing, dropped frames and the
+ * p50 / p95 of every timed operation. Refreshes once a second while visible.
+ */
+final class PerformanceOverlay extends Label {
+
+    private final PulseMonitor pulses;
+    private final Timeline ticker = new Timeline(new KeyFrame(Duration.seconds(1), e -> update()));
+
+    PerformanceOverlay(PulseMonitor pulses) {
+        this.pulses = pulses;
+        setMouseTransparent(true);
+        setPadding(new Insets(10));
+        setStyle("-fx-background-color: rgba(0,0,0,0.65); -fx-background-radius: 8; -fx-text-fill: #a7f3d0; -fx-font-family: monospace; -fx-font-size: 11px;");
+        ticker.setCycleCount(Animation.INDEFINITE);
+        visibleProperty().addListener((o, old, now) -> { if (now) { update(); ticker.play(); } else ticker.stop(); });
+        setVisible(false);
+    }
+
+    private void update() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("pulse %5.1f ms  layout %4.1f ms  dropped %d%n", pulses.recentIntervalMs(), pulses.recentLayoutMs(), Metrics.counter("fx_dropped_frames")));
+        for (Map.Entry<String, Metrics.Timer> e : Metrics.timers().entrySet()) {
+            Metrics.Timer t = e.getValue();
+            if (t.count() == 0 || e.getKey().startsWith("fx_")) continue;
+            sb.append(String.format("%-16s %6d  p50 %s  p95 %s%n", e.getKey(), t.count(), ms(t.quantileMs(0.5)), ms(t.quantileMs(0.95))));
+        }
+        setText(sb.toString().trim());
+    }
+
+    private static String ms(double v) { return Double.isInfinite(v) ? "  >10 s" : String.format("%5.1f ms", v); }
+}
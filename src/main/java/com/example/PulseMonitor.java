@@ -0,0 +1,55 @@
+package com.example;
+
+import javafx.scene.Scene;
+
+/**
+ * Tracks FX pulses of one scene through its layout pulse listeners, so it never requests
+ * a pulse itself and adds nothing while the window is idle.
+ * <p>
+ * Records the CSS + layout part of each pulse and the interval between consecutive
+ * pulses. Pulses are requested at 60 Hz while anything animates; an interval of n
+ * frames therefore means n - 1 dropped frames. Gaps longer than {@link #IDLE_GAP_MS}
+ * are idle time, not drops, and are ignored.
+ */
+final class PulseMonitor {
+
+    static final double FRAME_MS = 1000.0 / 60;
+    static final double IDLE_GAP_MS = 250;
+
+    private final Metrics.Timer layout = Metrics.timer("fx_pulse_layout");
+    private final Metrics.Timer interval = Metrics.timer("fx_pulse_interval");
+    private long pulseStart, lastPulse;
+    private double recentIntervalMs, recentLayoutMs;
+
+    void attach(Scene scene) {
+        scene.addPreLayoutPulseListener(this::beforeLayout);
+        scene.addPostLayoutPulseListener(this::afterLayout);
+    }
+
+    private void beforeLayout() {
+        long now = System.nanoTime();
+        Metrics.count("fx_pulses");
+        if (lastPulse != 0) {
+            double gapMs = (now - lastPulse) / 1e6;
+            if (gapMs < IDLE_GAP_MS) {
+                interval.record(now - lastPulse);
+                recentIntervalMs = recentIntervalMs == 0 ? gapMs : recentIntervalMs * 0.9 + gapMs * 0.1;
+                long dropped = Math.round(gapMs / FRAME_MS) - 1;
+                if (dropped > 0) Metrics.count("fx_dropped_frames", dropped);
+            }
+        }
+        lastPulse = pulseStart = now;
+    }
+
+    private void afterLayout() {
+        long took = System.nanoTime() - pulseStart;
+        layout.record(took);
+        recentLayoutMs = recentLayoutMs == 0 ? took / 1e6 : recentLayoutMs * 0.9 + took / 1e6 * 0.1;
+    }
+
+    /** Smoothed interval between recent non-idle pulses, in milliseconds. */
+    double recentIntervalMs() { return recentIntervalMs; }
+
+    /** Smoothed CSS + layout time of recent pulses, in milliseconds. */
+    double recentLayoutMs() { return recentLayoutMs; }
+}
@@ -0,0 +1,200 @@
+package com.example;
+
+import javafx.animation.Animation;
+import javafx.animation.AnimationTimer;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render-cost budget for the animated glass background and view transitions.
+ * <p>
+ * Background blobs are blurred once and snapshotted into bitmaps, so animating them
+ * only moves a texture. Their timelines pause while the window is unfocused or minimized.
+ * In {@link Mode#AUTO} the interval between pulses is measured while the background is
+ * animating and the window is in front; nothing runs while the scene is idle. Once the
+ * interval stays over the budget, quality steps down. Below FULL a probe is scheduled: for
+ * about two seconds the next level up is tried and measured, and it is kept only if the
+ * pulses stay under half the budget. A probe that fails puts the scene back, or down to
+ * MINIMAL if FULL ran at over twice the budget, and doubles the wait before the next one.
+ * FX thread only.
+ */
+final class RenderQuality {
+
+    /** What the scene may draw. */
+    enum Level {
+        /** Animated background, sliding and fading view transitions. */
+        FULL,
+        /** Still background, fade-only transitions. */
+        REDUCED,
+        /** No background blobs, instant view switches. */
+        MINIMAL
+    }
+
+    enum Mode { AUTO, FULL, REDUCED, MINIMAL }
+
+    static final double DEFAULT_BUDGET_MS = 25; // 1.5 frames at 60 Hz
+    private static final int OVER_BUDGET_PULSES = 90; // ~1.5 s of consecutive slow pulses before stepping down
+    private static final int PROBE_PULSES = 120; // ~2 s at the level being tried
+    private static final long PROBE_DELAY_MS = 60_000, MAX_PROBE_DELAY_MS = 60_000 * 32; // doubled per failed probe
+    private static final double RECOVER_FRACTION = 0.5;
+
+    private final Stage stage;
+    private final double budgetMs;
+    private final List<Node> blobs = new ArrayList<>();
+    private final List<Timeline> timelines = new ArrayList<>();
+    private final ObjectProperty<Level> level = new SimpleObjectProperty<>(Level.FULL);
+    private Mode mode = Mode.AUTO;
+
+    private final AnimationTimer monitor = new AnimationTimer() {
+        private long last;
+        @Override public void start() { last = 0; pulseMs = 0; slow = 0; samples = 0; super.start(); }
+        @Override public void handle(long now) {
+            if (last != 0) {
+                double ms = (now - last) / 1e6;
+                pulseMs = pulseMs == 0 ? ms : pulseMs * 0.9 + ms * 0.1;
+                slow = pulseMs > budgetMs ? slow + 1 : 0;
+                samples++;
+                if (probeFrom != null) {
+                    if (samples >= PROBE_PULSES) endProbe(pulseMs < budgetMs * RECOVER_FRACTION);
+                } else if (slow >= OVER_BUDGET_PULSES) {
+                    level.set(Level.REDUCED);
+                }
+            }
+            last = now;
+        }
+    };
+    private final ScheduledExecutorService probes = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "render-probe");
+        t.setDaemon(true);
+        return t;
+    });
+    private double pulseMs;
+    private int slow, samples;
+    private Level probeFrom; // level to return to while the one above it is being tried
+    private ScheduledFuture<?> nextProbe;
+    private long probeDelayMs = PROBE_DELAY_MS;
+
+    RenderQuality(Stage stage, double budgetMs) {
+        this.stage = stage;
+        this.budgetMs = budgetMs;
+        level.addListener((o, old, now) -> apply());
+        stage.focusedProperty().addListener((o, old, now) -> apply());
+        stage.iconifiedProperty().addListener((o, old, now) -> apply());
+    }
+
+    /**
+     * Adds a blurred circle to {@code host} that drifts diagonally and back every {@code periodSec}.
+     * The blur is rendered once here; the node added is a cached bitmap.
+     */
+    void addBlob(Pane host, Color color, double radius, double blur, double x, double y, double periodSec) {
+        Circle c = new Circle(radius, color);
+        c.setEffect(new GaussianBlur(blur));
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        WritableImage bitmap = c.snapshot(params, null);
+        ImageView blob = new ImageView(bitmap);
+        blob.setMouseTransparent(true);
+        blob.setCache(true);
+        blob.setCacheHint(CacheHint.SPEED);
+        blob.setTranslateX(x); blob.setTranslateY(y);
+        Timeline t = new Timeline(
+                new KeyFrame(Duration.ZERO, new KeyValue(blob.translateXProperty(), x), new KeyValue(blob.translateYProperty(), y)),
+                new KeyFrame(Duration.seconds(periodSec / 2), new KeyValue(blob.translateXProperty(), x + 40), new KeyValue(blob.translateYProperty(), y - 40)),
+                new KeyFrame(Duration.seconds(periodSec), new KeyValue(blob.translateXProperty(), x), new KeyValue(blob.translateYProperty(), y)));
+        t.setAutoReverse(true);
+        t.setCycleCount(Animation.INDEFINITE);
+        blobs.add(blob); timelines.add(t);
+        host.getChildren().add(blob);
+        apply();
+    }
+
+    void setMode(Mode m) {
+        mode = m;
+        cancelProbe();
+        probeFrom = null;
+        probeDelayMs = PROBE_DELAY_MS;
+        level.set(m == Mode.AUTO ? Level.FULL : Level.valueOf(m.name()));
+        apply();
+    }
+
+    Mode mode() { return mode; }
+    Level level() { return level.get(); }
+    ObjectProperty<Level> levelProperty() { return level; }
+
+    /** Smoothed interval between recent pulses while measuring in AUTO mode, or 0 before any were measured. */
+    double pulseMs() { return pulseMs; }
+    double budgetMs() { return budgetMs; }
+
+    boolean slideTransitions() { return level.get() == Level.FULL; }
+    boolean fadeTransitions() { return level.get() != Level.MINIMAL; }
+
+    private void apply() {
+        Level l = level.get();
+        boolean front = stage.isFocused() && !stage.isIconified();
+        if (probeFrom != null && !front) { // a probe needs the window in front
+            Level back = probeFrom;
+            probeFrom = null;
+            level.set(back); // re-enters apply()
+            return;
+        }
+        boolean animate = l == Level.FULL && front;
+        for (Node b : blobs) b.setVisible(l != Level.MINIMAL);
+        for (Timeline t : timelines) { if (animate) t.play(); else t.pause(); }
+        boolean auto = mode == Mode.AUTO && !blobs.isEmpty();
+        if (auto && (animate || probeFrom != null)) monitor.start(); else monitor.stop();
+        if (auto && front && l != Level.FULL && probeFrom == null) scheduleProbe(); else if (probeFrom == null) cancelProbe();
+    }
+
+    private void scheduleProbe() {
+        if (nextProbe != null) return;
+        nextProbe = probes.schedule(() -> Platform.runLater(this::startProbe), probeDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelProbe() {
+        if (nextProbe != null) nextProbe.cancel(false);
+        nextProbe = null;
+    }
+
+    private void startProbe() {
+        nextProbe = null;
+        Level l = level.get();
+        if (mode != Mode.AUTO || l == Level.FULL || !stage.isFocused() || stage.isIconified()) return;
+        probeFrom = l;
+        level.set(Level.values()[l.ordinal() - 1]);
+    }
+
+    private void endProbe(boolean kept) {
+        Level back = probeFrom;
+        boolean verySlow = level.get() == Level.FULL && pulseMs > budgetMs * 2;
+        probeFrom = null;
+        if (kept) {
+            probeDelayMs = PROBE_DELAY_MS;
+            apply();
+        } else {
+            probeDelayMs = Math.min(probeDelayMs * 2, MAX_PROBE_DELAY_MS);
+            level.set(verySlow ? Level.MINIMAL : back);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Headless re-scoring entry point, next to the UI's {@code main}:
+ * {@code java -cp ... com.example.ScoringCli --rescore <file> [--out <file>] [--rules <file>] [--dry-run]}.
+ * It has its own class so the JavaFX launcher (which starts the toolkit before
+ * calling an {@code Application}'s main) is never involved.
+ * <p>
+ * The file is read as a plain CSV export. The re-scored rows are written to {@code --out},
+ * or replace the input when it is omitted. A data file the app still has an unmerged journal
+ * for is refused, since its CSV is not the whole list; close the app first. The app's
+ * {@code .lock} next to the file is held from that check until the rename, so a running
+ * instance cannot append in between. Prints how many candidates moved between each pair of statuses.
+ */
+final class ScoringCli {
+
+    private ScoringCli() {}
+
+    public static void main(String[] args) { System.exit(run(args, System.out, System.err)); }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Path data = null, outFile = null, rulesFile = Paths.get(ModernCandidateSystem.RULES_FILE);
+        boolean dryRun = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--rescore": if (i + 1 < args.length) data = Paths.get(args[++i]); break;
+                case "--out": if (i + 1 < args.length) outFile = Paths.get(args[++i]); break;
+                case "--rules": if (i + 1 < args.length) rulesFile = Paths.get(args[++i]); break;
+                case "--dry-run": dryRun = true; break;
+                default: err.println("Unknown argument: " + args[i]); return usage(err);
+            }
+        }
+        if (data == null) return usage(err);
+
+        if (outFile == null) outFile = data;
+
+        try (FileChannel lockChannel = FileChannel.open(data.resolveSibling(data.getFileName() + ".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock held = lockChannel.lock()) {
+            for (String suffix : new String[] { ".journal", ".journal.old" }) {
+                Path journal = data.resolveSibling(data.getFileName() + suffix);
+                if (Files.exists(journal) && Files.size(journal) > 0) { err.println("Re-scoring failed: " + journal + " has edits not yet merged into " + data + "; close the app first"); return 1; }
+            }
+            ScoringEngine engine = new ScoringEngine(ScoringRules.load(rulesFile));
+            CandidateCsvImporter.Result read = CandidateCsvImporter.importFile(data);
+            if (read.malformed > 0) {
+                err.printf("%d malformed rows skipped%n", read.malformed);
+                if (!dryRun && outFile.equals(data)) { err.println("Re-scoring failed: writing over " + data + " would drop them; pass --out"); return 1; }
+            }
+            List<Candidate> rows = read.candidates;
+            long t0 = System.nanoTime();
+            ScoringEngine.Batch batch = engine.evaluate(rows);
+            long ms = (System.nanoTime() - t0) / 1_000_000;
+            List<Candidate> rescored = ScoringEngine.apply(rows, batch);
+            int changed = 0;
+            for (int i = 0; i < rows.size(); i++) if (rescored.get(i) != rows.get(i)) changed++;
+            if (!dryRun) write(rescored, outFile);
+            report(out, ScoringEngine.transitions(rows, batch));
+            out.printf("%d candidates scored in %d ms, %d changed%s%n", rows.size(), ms, changed, dryRun ? " (dry run, no scores written)" : ", written to " + outFile);
+            return 0;
+        } catch (IOException | IllegalArgumentException e) {
+            err.println("Re-scoring failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /** Writes {@code rows} to a temporary sibling and moves it over {@code file}, so a failure never leaves half a file. */
+    private static void write(List<Candidate> rows, Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".rescore.tmp");
+        try (BufferedWriter w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) { for (Candidate c : rows) { w.write(c.toCSV()); w.newLine(); } }
+        try { Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE); }
+        catch (AtomicMoveNotSupportedException e) { Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING); }
+    }
+
+    private static void report(PrintStream out, int[][] m) {
+        CandidateStatus[] all = CandidateStatus.values();
+        for (CandidateStatus from : all) for (CandidateStatus to : all) {
+            int n = m[from.ordinal()][to.ordinal()];
+            if (n > 0) out.printf("%-12s -> %-12s %8d%s%n", from.label, to.label, n, from == to ? "" : "  *");
+        }
+    }
+
+    private static int usage(PrintStream err) {
+        err.println("Usage: ScoringCli --rescore <candidates.csv> [--out <file>] [--rules <scoring.properties>] [--dry-run]");
+        return 2;
+    }
+}
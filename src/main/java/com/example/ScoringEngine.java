@@ -0,0 +1,91 @@
+package com.example;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * UI-independent candidate scoring.
+ * <p>
+ * Single evaluations back the New Candidate form. Batches are unpacked into primitive
+ * columns (scores, experience, rule index per row) and scored in parallel, so
+ * re-scoring a whole database allocates only for the rows whose result changed.
+ */
+final class ScoringEngine {
+
+    private final ScoringRules rules;
+
+    ScoringEngine(ScoringRules rules) { this.rules = rules; }
+
+    static double average(ScoringRules.Rule r, int tech, int comm) {
+        return (tech * r.techWeight + comm * r.commWeight) / (r.techWeight + r.commWeight);
+    }
+
+    static CandidateStatus status(ScoringRules.Rule r, double avg, int exp) {
+        if (avg >= r.hireAvg && exp >= r.hireExp) return CandidateStatus.HIRED;
+        if (avg >= r.shortlistAvg) return CandidateStatus.SHORTLISTED;
+        if (avg >= r.holdAvg && exp > r.holdExp) return CandidateStatus.ON_HOLD;
+        return CandidateStatus.REJECTED;
+    }
+
+    /** Scores a new candidate under the rules for its role. */
+    Candidate score(String name, String email, String role, int tech, int comm, int exp, String imgPath) {
+        ScoringRules.Rule r = rules.forRole(role);
+        double avg = average(r, tech, comm);
+        return new Candidate(name, email, role, tech, comm, exp, status(r, avg, exp).label, avg, imgPath);
+    }
+
+    /** Result of a batch run: per-row averages and status ordinals, aligned with the input. */
+    static final class Batch {
+        final double[] avg;
+        final byte[] status;
+        Batch(int n) { avg = new double[n]; status = new byte[n]; }
+    }
+
+    Batch evaluate(List<? extends Candidate> rows) {
+        int n = rows.size();
+        int[] tech = new int[n], comm = new int[n], exp = new int[n], rule = new int[n];
+        List<ScoringRules.Rule> ruleTable = new ArrayList<>();
+        Map<String, Integer> ruleIds = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Candidate c = rows.get(i);
+            tech[i] = c.tech; comm[i] = c.comm; exp[i] = c.exp;
+            rule[i] = ruleIds.computeIfAbsent(c.role, role -> { ruleTable.add(rules.forRole(role)); return ruleTable.size() - 1; });
+        }
+        ScoringRules.Rule[] table = ruleTable.toArray(new ScoringRules.Rule[0]);
+        Batch out = new Batch(n);
+        IntStream.range(0, n).parallel().forEach(i -> {
+            ScoringRules.Rule r = table[rule[i]];
+            double avg = average(r, tech[i], comm[i]);
+            out.avg[i] = avg;
+            out.status[i] = (byte) status(r, avg, exp[i]).ordinal();
+        });
+        return out;
+    }
+
+    /**
+     * Returns a copy of {@code rows} with re-scored candidates; rows whose score and
+     * status are unchanged keep their original instance.
+     */
+    static List<Candidate> apply(List<? extends Candidate> rows, Batch batch) {
+        List<Candidate> out = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Candidate c = rows.get(i);
+            String status = CandidateStatus.ofOrdinal(batch.status[i]).label;
+            out.add(c.avg == batch.avg[i] && status.equals(c.status) ? c : new Candidate(c.name, c.email, c.role, c.tech, c.comm, c.exp, status, batch.avg[i], c.imgPath));
+        }
+        return out;
+    }
+
+    /** Counts status transitions as {@code [from.ordinal()][to.ordinal()]}. */
+    static int[][] transitions(List<? extends Candidate> rows, Batch batch) {
+        int k = CandidateStatus.values().length;
+        int[][] m = new int[k][k];
+        for (int i = 0; i < rows.size(); i++) m[CandidateStatus.of(rows.get(i).status).ordinal()][batch.status[i]]++;
+        return m;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Evaluation policy loaded from {@code scoring.properties}.
+ * <p>
+ * Global keys set the defaults; any key can be overridden for one role by prefixing
+ * it with {@code role.<Role Name>.} (escape spaces as {@code \ }). Without a file the
+ * rules reproduce the original hard-coded policy:
+ * <pre>
+ * tech.weight=1
+ * comm.weight=1
+ * hire.avg=85
+ * hire.exp=2
+ * shortlist.avg=70
+ * hold.avg=50
+ * hold.exp=5
+ * </pre>
+ * An override example, not part of the defaults: {@code role.QA\ Analyst.hire.avg=80}.
+ * Experience thresholds are whole years.
+ */
+final class ScoringRules {
+
+    /** One resolved rule set; {@code hold.exp} is exclusive, matching the original policy. */
+    static final class Rule {
+        final double techWeight, commWeight, hireAvg, shortlistAvg, holdAvg;
+        final int hireExp, holdExp;
+
+        Rule(double techWeight, double commWeight, double hireAvg, int hireExp, double shortlistAvg, double holdAvg, int holdExp) {
+            if (techWeight < 0 || commWeight < 0 || techWeight + commWeight <= 0) throw new IllegalArgumentException("Score weights must be non-negative and not both zero");
+            this.techWeight = techWeight; this.commWeight = commWeight;
+            this.hireAvg = hireAvg; this.hireExp = hireExp;
+            this.shortlistAvg = shortlistAvg;
+            this.holdAvg = holdAvg; this.holdExp = holdExp;
+        }
+    }
+
+    static final Rule DEFAULT_RULE = new Rule(1, 1, 85, 2, 70, 50, 5);
+
+    private final Rule base;
+    private final Map<String, Rule> byRole;
+
+    ScoringRules(Rule base, Map<String, Rule> byRole) { this.base = base; this.byRole = byRole; }
+
+    static ScoringRules defaults() { return new ScoringRules(DEFAULT_RULE, Map.of()); }
+
+    /** Reads rules from {@code file}, or returns the defaults when it does not exist. */
+    static ScoringRules load(Path file) throws IOException {
+        if (!Files.exists(file)) return defaults();
+        Properties p = new Properties();
+        try (Reader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) { p.load(r); }
+        return from(p);
+    }
+
+    static ScoringRules from(Properties p) {
+        Rule base = resolve(p, "", DEFAULT_RULE);
+        Map<String, Rule> byRole = new HashMap<>();
+        for (String key : p.stringPropertyNames()) {
+            if (!key.startsWith("role.")) continue;
+            int end = lastSettingDot(key);
+            if (end <= 5) continue;
+            String role = key.substring(5, end);
+            byRole.computeIfAbsent(role, r -> resolve(p, "role." + r + ".", base));
+        }
+        return new ScoringRules(base, byRole);
+    }
+
+    Rule forRole(String role) { return byRole.getOrDefault(role, base); }
+
+    private static final String[] SETTINGS = { "tech.weight", "comm.weight", "hire.avg", "hire.exp", "shortlist.avg", "hold.avg", "hold.exp" };
+
+    /** Position of the dot that starts the setting name in {@code role.<Role>.<setting>}. */
+    private static int lastSettingDot(String key) {
+        for (String s : SETTINGS) if (key.endsWith("." + s)) return key.length() - s.length() - 1;
+        return -1;
+    }
+
+    private static Rule resolve(Properties p, String prefix, Rule parent) {
+        return new Rule(
+                num(p, prefix + "tech.weight", parent.techWeight), num(p, prefix + "comm.weight", parent.commWeight),
+                num(p, prefix + "hire.avg", parent.hireAvg), years(p, prefix + "hire.exp", parent.hireExp),
+                num(p, prefix + "shortlist.avg", parent.shortlistAvg),
+                num(p, prefix + "hold.avg", parent.holdAvg), years(p, prefix + "hold.exp", parent.holdExp));
+    }
+
+    private static double num(Properties p, String key, double fallback) {
+        String v = p.getProperty(key);
+        if (v == null) return fallback;
+        try { return Double.parseDouble(v.trim()); }
+        catch (NumberFormatException e) { throw new IllegalArgumentException("Bad value for " + key + ": " + v, e); }
+    }
+
+    private static int years(Properties p, String key, int fallback) {
+        String v = p.getProperty(key);
+        if (v == null) return fallback;
+        try { return Integer.parseInt(v.trim()); }
+        catch (NumberFormatException e) { throw new IllegalArgumentException("Bad value for " + key + " (whole years expected): " + v, e); }
+    }
+}
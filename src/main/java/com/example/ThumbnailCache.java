@@ -0,0 +1,43 @@
+package com.example;
+
+import javafx.scene.image.Image;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of candidate photo thumbnails.
+ * <p>
+ * Images are decoded at the size they are shown at, on JavaFX's background loader,
+ * so an {@code ImageView} can take the returned image immediately and shows it once
+ * decoding finishes. Entries are keyed by path and size; the least recently used
+ * thumbnail is dropped when the cache is full. A path that fails to load is remembered as
+ * a null entry, so binding cells does not hit the disk again for it. FX thread only.
+ */
+final class ThumbnailCache {
+
+    private final Map<String, Image> images;
+
+    ThumbnailCache(int capacity) {
+        this.images = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) { return size() > capacity; }
+        };
+    }
+
+    /** Returns the (possibly still loading) thumbnail, or null when there is no photo or it failed to load. */
+    Image get(String imgPath, double size) {
+        if (imgPath == null || imgPath.isEmpty()) return null;
+        String key = (int) size + "|" + imgPath;
+        Image img = images.get(key);
+        if (img == null) {
+            if (images.containsKey(key)) return null; // failed before; not retried until evicted
+            try { img = new Image(imgPath, size, size, false, true, true); }
+            catch (IllegalArgumentException e) { images.put(key, null); return null; } // not a URL the loader understands
+            images.put(key, img);
+        } else if (img.isError()) {
+            images.put(key, null);
+            return null;
+        }
+        return img;
+    }
+}
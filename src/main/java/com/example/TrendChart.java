@@ -0,0 +1,149 @@
+package com.example;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.chart.AreaChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.input.MouseButton;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * "Talent Quality Trend" over the whole candidate history.
+ * <p>
+ * The x axis is the row number. Only the visible range is sampled: a worker reads the
+ * store's average column in place (under its read lock) and reduces it with {@link Lttb}
+ * to one point per horizontal pixel, so the chart holds a screen width of points however
+ * many candidates there are. The wheel zooms around the cursor, dragging pans, and a
+ * double click returns to the full history, which then follows new rows again.
+ */
+final class TrendChart {
+
+    private static final int MIN_POINTS = 16;
+    private static final double MIN_SPAN = 10;
+
+    private final CandidateColumnStore columns;
+    private final NumberAxis xAxis = new NumberAxis(), yAxis = new NumberAxis(0, 100, 20);
+    private final AreaChart<Number, Number> chart = new AreaChart<>(xAxis, yAxis);
+    private final XYChart.Series<Number, Number> series = new XYChart.Series<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> { Thread t = new Thread(r, "trend-sampler"); t.setDaemon(true); return t; });
+    private final AtomicLong generation = new AtomicLong();
+
+    // --- FX thread only ---
+    private Future<?> pending;
+    private double viewFrom = 1, viewTo = 1; // row numbers, 1-based and inclusive
+    private boolean zoomed;
+    private double dragX = Double.NaN;
+
+    TrendChart(CandidateColumnStore columns) {
+        this.columns = columns;
+        chart.setTitle("Talent Quality Trend");
+        chart.setLegendVisible(false);
+        chart.setAnimated(false);
+        chart.setCreateSymbols(false);
+        xAxis.setAutoRanging(false);
+        xAxis.setForceZeroInRange(false);
+        xAxis.setMinorTickVisible(false);
+        chart.getData().add(series);
+        xAxis.widthProperty().addListener((o, old, now) -> { if (Math.abs(now.doubleValue() - old.doubleValue()) >= 1) refresh(); });
+        chart.setOnScroll(e -> {
+            if (e.getDeltaY() == 0) return;
+            double at = xAxis.getValueForDisplay(xAxis.sceneToLocal(e.getSceneX(), e.getSceneY()).getX()).doubleValue();
+            zoom(e.getDeltaY() > 0 ? 0.8 : 1.25, at);
+        });
+        chart.setOnMousePressed(e -> dragX = e.getX());
+        chart.setOnMouseDragged(e -> {
+            if (Double.isNaN(dragX) || xAxis.getWidth() <= 0) return;
+            double shift = (dragX - e.getX()) * (viewTo - viewFrom) / xAxis.getWidth();
+            dragX = e.getX();
+            if (shift != 0) { zoomed = true; setView(viewFrom + shift, viewTo + shift); }
+        });
+        chart.setOnMouseReleased(e -> dragX = Double.NaN);
+        chart.setOnMouseClicked(e -> { if (e.getButton() == MouseButton.PRIMARY && e.getClickCount() == 2) { zoomed = false; refresh(); } });
+    }
+
+    AreaChart<Number, Number> chart() { return chart; }
+
+    /** Re-samples after the data changed; the full history is followed unless zoomed in. */
+    void refresh() {
+        if (zoomed) setView(viewFrom, viewTo);
+        else setView(1, Math.max(1, columns.size()));
+    }
+
+    private void zoom(double factor, double around) {
+        double span = Math.max(MIN_SPAN, (viewTo - viewFrom) * factor);
+        double rel = viewTo > viewFrom ? (around - viewFrom) / (viewTo - viewFrom) : 0.5;
+        rel = Math.max(0, Math.min(1, rel));
+        zoomed = true;
+        setView(around - span * rel, around + span * (1 - rel));
+    }
+
+    /** Clamps the view to the data, updates the axis and schedules sampling of the visible rows. */
+    private void setView(double from, double to) {
+        double last = Math.max(1, columns.size()), span = Math.min(to - from, last - 1);
+        if (from < 1) from = 1;
+        if (from + span > last) from = last - span;
+        viewFrom = from; viewTo = from + span;
+        if (viewTo - viewFrom >= last - 1) zoomed = false;
+        xAxis.setLowerBound(viewFrom);
+        xAxis.setUpperBound(Math.max(viewTo, viewFrom + 1));
+        xAxis.setTickUnit(niceStep((viewTo - viewFrom) / 8));
+        chart.setTitle(zoomed ? String.format("Talent Quality Trend (rows %,d - %,d)", (long) viewFrom, (long) Math.ceil(viewTo)) : "Talent Quality Trend");
+
+        int points = Math.max(MIN_POINTS, (int) xAxis.getWidth());
+        int firstRow = Math.max(0, (int) Math.floor(viewFrom) - 2), endRow = (int) Math.ceil(viewTo) + 1; // one row beyond each edge so the line reaches it
+        long gen = generation.incrementAndGet();
+        if (pending != null) pending.cancel(true);
+        pending = worker.submit(() -> {
+            double[][] xy = sample(firstRow, endRow, points);
+            Platform.runLater(() -> { if (generation.get() == gen) publish(xy); });
+        });
+    }
+
+    private double[][] sample(int from, int to, int points) {
+        try (Metrics.Span s = Metrics.time("trend_sample")) {
+            columns.readLock().lock();
+            try {
+                to = Math.min(to, columns.size());
+                if (to <= from) return new double[2][0];
+                int[] rows = new int[Math.min(points, to - from)];
+                int n = Lttb.downsample(columns.avgColumn(), from, to, rows.length, rows);
+                double[][] xy = new double[2][n];
+                for (int i = 0; i < n; i++) { xy[0][i] = rows[i] + 1; xy[1][i] = columns.avg(rows[i]); }
+                return xy;
+            } finally {
+                columns.readLock().unlock();
+            }
+        }
+    }
+
+    /** Writes the samples into the series, reusing its data points. */
+    private void publish(double[][] xy) {
+        int n = xy[0].length;
+        ObservableList<XYChart.Data<Number, Number>> pts = series.getData();
+        if (pts.size() > n) pts.remove(n, pts.size());
+        for (int i = 0; i < pts.size(); i++) {
+            XYChart.Data<Number, Number> d = pts.get(i);
+            if (d.getXValue().doubleValue() != xy[0][i]) d.setXValue(xy[0][i]);
+            if (d.getYValue().doubleValue() != xy[1][i]) d.setYValue(xy[1][i]);
+        }
+        if (pts.size() < n) {
+            List<XYChart.Data<Number, Number>> tail = new ArrayList<>(n - pts.size());
+            for (int i = pts.size(); i < n; i++) tail.add(new XYChart.Data<>(xy[0][i], xy[1][i]));
+            pts.addAll(tail);
+        }
+    }
+
+    /** 1, 2 or 5 times a power of ten, at least {@code raw}. */
+    static double niceStep(double raw) {
+        if (raw <= 1) return 1;
+        double p = Math.pow(10, Math.floor(Math.log10(raw))), f = raw / p;
+        return (f <= 1 ? 1 : f <= 2 ? 2 : f <= 5 ? 5 : 10) * p;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the incremental dashboard aggregates.
+ */
+public class CandidateAggregatesTest
+{
+    private static Candidate candidate(String name, String role, String status, double avg)
+    {
+        return new Candidate(name, name + "@gmail.com", role, 80, 70, 3, status, avg, null);
+    }
+
+    @Test
+    public void tracksCountsAndTopAcrossChanges()
+    {
+        ObservableList<Candidate> list = FXCollections.observableArrayList(
+                candidate("a", "QA Analyst", "HIRED", 90),
+                candidate("b", "QA Analyst", "REJECTED", 40),
+                candidate("c", "Product Manager", "SHORTLISTED", 75));
+        CandidateAggregates stats = new CandidateAggregates(list, 2);
+        assertEquals(1, stats.hired());
+        assertEquals(2, stats.roleCount("QA Analyst"));
+        assertEquals(List.of(list.get(0), list.get(2)), stats.top());
+        stats.drainChangedRoles();
+        stats.markClean();
+
+        list.add(candidate("d", "System Admin", "HIRED", 95));
+        assertTrue(stats.isDirty());
+        assertEquals(List.of("System Admin"), stats.drainChangedRoles());
+        assertEquals("d", stats.top().get(0).name);
+
+        list.remove(3);
+        list.set(1, candidate("b", "QA Analyst", "HIRED", 88));
+        assertEquals(2, stats.hired());
+        assertEquals(0, stats.rejected());
+        assertEquals(0, stats.roleCount("System Admin"));
+        assertEquals(List.of("a", "b"), stats.top().stream().map(Candidate::getName).toList());
+        stats.markClean();
+        assertFalse(stats.isDirty());
+    }
+}
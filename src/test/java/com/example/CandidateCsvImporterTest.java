@@ -0,0 +1,67 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for the memory-mapped bulk CSV importer.
+ */
+public class CandidateCsvImporterTest
+{
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void parsesRowsAndCountsMalformedOnes() throws Exception
+    {
+        Path csv = tmp.getRoot().toPath().resolve("import.csv");
+        Files.write(csv, List.of(
+                "joses,jouh@gmail.com,UI/UX Designer,98,90,3,HIRED,94.0,",
+                "broken,row",
+                "",
+                "ram,rammuu@gmail.com,Product Manager,98,54,x,SHORTLISTED,76.0,",
+                "ann,ann@gmail.com,UI/UX Designer,70,65,-1,REJECTED,67.5,file:/tmp/a.png\r"), StandardCharsets.UTF_8);
+
+        CandidateCsvImporter.Result res = CandidateCsvImporter.importFile(csv);
+
+        assertEquals(2, res.candidates.size());
+        assertEquals(2, res.malformed);
+        Candidate first = res.candidates.get(0), second = res.candidates.get(1);
+        assertEquals("joses", first.name);
+        assertEquals(94.0, first.avg, 0.0);
+        assertNull(first.imgPath);
+        assertEquals(-1, second.exp);
+        assertEquals(67.5, second.avg, 0.0);
+        assertEquals("file:/tmp/a.png", second.imgPath);
+        assertSame(first.role, second.role);
+    }
+
+    @Test
+    public void matchesLineByLineParsingAcrossChunks() throws Exception
+    {
+        Path csv = tmp.getRoot().toPath().resolve("large.csv");
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 60_000; i++)
+            lines.add("name" + i + ",user" + i + "@gmail.com,QA Analyst," + (i % 101) + "," + (i % 97) + "," + (i % 11) + ",ON HOLD," + (i % 1000) / 10.0 + ",");
+        Files.write(csv, lines, StandardCharsets.UTF_8);
+
+        List<Candidate> rows = CandidateCsvImporter.importFile(csv).candidates;
+
+        assertEquals(lines.size(), rows.size());
+        for (int i = 0; i < lines.size(); i += 997)
+            assertEquals(Candidate.fromCSV(lines.get(i)).toCSV(), rows.get(i).toCSV());
+    }
+}
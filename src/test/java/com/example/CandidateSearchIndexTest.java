@@ -0,0 +1,99 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the trigram search index and query syntax.
+ */
+public class CandidateSearchIndexTest
+{
+    private final ObservableList<Candidate> list = FXCollections.observableArrayList(
+            new Candidate("Joses George", "jouh@gmail.com", "UI/UX Designer", 98, 90, 3, "HIRED", 94.0, null),
+            new Candidate("Ram Kumar", "rammuu@gmail.com", "QA Analyst", 60, 54, 1, "REJECTED", 57.0, null),
+            new Candidate("Deepa", "deepu@gmail.com", "QA Analyst", 89, 97, 4, "HIRED", 93.0, null));
+
+    private List<String> names(CandidateSearchIndex index, String query)
+    {
+        return index.evaluate(CandidateQuery.parse(query)).stream().map(Candidate::getName).toList();
+    }
+
+    @Test
+    public void combinesTermsAndTypedFilters()
+    {
+        CandidateSearchIndex index = new CandidateSearchIndex(list, Runnable::run, 0);
+        assertEquals(List.of("Joses George"), names(index, "geo"));
+        assertEquals(List.of("Ram Kumar", "Deepa"), names(index, "gmail role:qa"));
+        assertEquals(List.of("Deepa"), names(index, "role:\"QA Analyst\" status:HIRED tech>80"));
+        assertEquals(List.of("Joses George", "Deepa"), names(index, "avg>=93"));
+        assertEquals(List.of(), names(index, "zzz"));
+    }
+
+    @Test
+    public void followsListChanges()
+    {
+        CandidateSearchIndex index = new CandidateSearchIndex(list, Runnable::run, 0);
+        list.add(new Candidate("Georgia", "gg@gmail.com", "System Admin", 70, 70, 2, "SHORTLISTED", 70.0, null));
+        list.set(0, new Candidate("Joses", "jouh@gmail.com", "UI/UX Designer", 98, 90, 3, "HIRED", 94.0, null));
+        assertEquals(List.of("Georgia"), names(index, "geor"));
+        list.remove(1);
+        assertEquals(List.of("Deepa"), names(index, "role:qa"));
+    }
+
+    @Test
+    public void replacedRowsGiveUpTheirPostings()
+    {
+        CandidateSearchIndex index = new CandidateSearchIndex(list, Runnable::run, 0);
+        int before = index.trigrams();
+        Candidate original = list.get(1);
+        for (int i = 0; i < 3; i++) list.set(1, new Candidate("Xavier Quill " + i, "xq" + i + "@yahoo.com", "Intern", 50, 50, 0, "REJECTED", 50.0, null));
+        assertEquals(List.of("Xavier Quill 2"), names(index, "quill"));
+        assertEquals(List.of(), names(index, "yahoo.com role:qa"));
+        list.set(1, original);
+        assertEquals(before, index.trigrams());
+        assertEquals(List.of("Ram Kumar"), names(index, "kumar"));
+    }
+
+    @Test
+    public void deliversOnlyLatestQuery() throws Exception
+    {
+        CandidateSearchIndex index = new CandidateSearchIndex(list, Runnable::run, 50);
+        BlockingQueue<Object> results = new ArrayBlockingQueue<>(4);
+        index.search("ram", found -> results.add(found));
+        index.search("deep", found -> results.add(found));
+        @SuppressWarnings("unchecked")
+        List<Candidate> found = (List<Candidate>) results.poll(5, TimeUnit.SECONDS);
+        assertEquals("Deepa", found.get(0).name);
+        assertNull(results.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void scansColumnStoreAcrossReadLockChunks()
+    {
+        ColumnarCandidateList columnar = new ColumnarCandidateList(new CandidateColumnStore());
+        List<Candidate> rows = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) rows.add(new Candidate("C" + i, "c" + i + "@gmail.com", i % 2 == 0 ? "QA Analyst" : "Intern", 50 + i % 50, 60, 2, "SHORTLISTED", 60.0, null));
+        columnar.addAll(rows);
+        CandidateSearchIndex index = new CandidateSearchIndex(columnar, Runnable::run, 0);
+
+        // No term of three characters: every row is checked, one chunk per hold of the read lock
+        assertEquals(rows.stream().filter(c -> c.role.equals("QA Analyst") && c.tech > 97).count(), index.evaluate(CandidateQuery.parse("role:qa tech>97")).size());
+        columnar.remove(30_000, 40_000);
+        List<Candidate> found = index.evaluate(CandidateQuery.parse("tech>98"));
+        assertEquals(600, found.size());
+        assertEquals("C29999", found.get(found.size() - 1).name);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the column store and its observable list view.
+ */
+public class ColumnarCandidateListTest
+{
+    private static Candidate candidate(String name, String role, String status, double avg)
+    {
+        return new Candidate(name, name.toLowerCase() + "@gmail.com", role, 80, 70, 3, status, avg, null);
+    }
+
+    @Test
+    public void storesRowsAsValuesWithSharedDictionaryStrings()
+    {
+        CandidateColumnStore columns = new CandidateColumnStore();
+        ColumnarCandidateList list = new ColumnarCandidateList(columns);
+        Candidate a = new Candidate("Zoë", "zoe@gmail.com", "QA Analyst", 91, 88, 4, "HIRED", 89.5, "/img/z.png");
+        list.addAll(List.of(a, candidate("Ram", "QA Analyst", "ON HOLD", 60), candidate("Deepa", "Product Manager", "Custom", 70)));
+
+        assertEquals(a, list.get(0));
+        assertSame(list.get(0).role, list.get(1).role);
+        assertSame(CandidateStatus.HIRED.label, list.get(0).status);
+        assertEquals(CandidateStatus.ON_HOLD, columns.status(2));
+        assertEquals("Custom", list.get(2).status);
+        assertEquals(89.5, columns.avgColumn()[0], 0);
+
+        list.remove(0, 2);
+        list.add(0, candidate("Kiran", "System Admin", "REJECTED", 40));
+        assertEquals(List.of("Kiran", "Deepa"), list.stream().map(Candidate::getName).toList());
+        assertEquals("deepa@gmail.com", list.get(1).email);
+    }
+
+    @Test
+    public void setAllReportsOnlyChangedRows()
+    {
+        ColumnarCandidateList list = new ColumnarCandidateList(new CandidateColumnStore());
+        for (int i = 0; i < 5; i++) list.add(candidate("C" + i, "QA Analyst", "SHORTLISTED", 70 + i));
+        List<Candidate> next = new ArrayList<>(list);
+        next.set(2, candidate("C2", "QA Analyst", "HIRED", 90));
+        next.remove(4);
+
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Candidate>) ch -> {
+            while (ch.next()) changes.add(ch.getFrom() + ":-" + ch.getRemovedSize() + "+" + ch.getAddedSize());
+        });
+        list.setAll(next);
+
+        assertEquals(List.of("2:-1+1", "4:-1+0"), changes);
+        assertEquals(next, list);
+        assertEquals(1, new CandidateAggregates(list, 2).hired());
+    }
+
+    @Test
+    public void reloadDiffKeepsRowsEditedMeanwhile()
+    {
+        ColumnarCandidateList list = new ColumnarCandidateList(new CandidateColumnStore());
+        for (int i = 0; i < 4; i++) list.add(candidate("C" + i, "QA Analyst", "SHORTLISTED", 70 + i));
+        List<Candidate> reloaded = new ArrayList<>(list);
+        reloaded.set(1, candidate("C1", "QA Analyst", "HIRED", 95));
+        reloaded.set(2, candidate("C2", "QA Analyst", "HIRED", 96));
+        reloaded.add(candidate("C4", "QA Analyst", "SHORTLISTED", 60));
+
+        CandidateSync.Diff d = CandidateSync.diff(list.columns(), reloaded);
+        assertEquals(2, d.rows.length);
+        assertEquals(List.of("C4"), d.tail.stream().map(Candidate::getName).toList());
+
+        list.set(2, candidate("C2", "QA Analyst", "REJECTED", 10)); // edited after the diff was taken
+        assertEquals(1, list.replaceUnchanged(d.rows, d.before, d.after));
+        assertEquals("HIRED", list.get(1).status);
+        assertEquals("REJECTED", list.get(2).status);
+    }
+
+    @Test
+    public void replaceUnchangedFollowsRowsThatMoved()
+    {
+        ColumnarCandidateList list = new ColumnarCandidateList(new CandidateColumnStore());
+        for (int i = 0; i < 6; i++) list.add(candidate("C" + i, "QA Analyst", "SHORTLISTED", 70 + i));
+        List<Candidate> snapshot = new ArrayList<>(list);
+
+        list.remove(0);                                             // everything moves up one
+        list.set(3, candidate("C4", "QA Analyst", "REJECTED", 10)); // edited meanwhile
+        int replaced = list.replaceUnchanged(new int[] {2, 4, 5},
+                List.of(snapshot.get(2), snapshot.get(4), snapshot.get(5)),
+                List.of(candidate("C2", "QA Analyst", "HIRED", 92), candidate("C4", "QA Analyst", "HIRED", 94), candidate("C5", "QA Analyst", "HIRED", 95)));
+
+        assertEquals(2, replaced);
+        assertEquals(List.of("SHORTLISTED", "HIRED", "SHORTLISTED", "REJECTED", "HIRED"), list.stream().map(c -> c.status).toList());
+    }
+}
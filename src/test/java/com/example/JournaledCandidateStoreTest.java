@@ -0,0 +1,171 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for the journaled candidate store.
+ */
+public class JournaledCandidateStoreTest
+{
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private static Candidate candidate(String name, double avg)
+    {
+        return new Candidate(name, name + "@gmail.com", "QA Analyst", 80, 70, 3, "SHORTLISTED", avg, null);
+    }
+
+    @Test
+    public void replaysJournalOnTopOfSnapshot() throws Exception
+    {
+        Path csv = tmp.getRoot().toPath().resolve("candidates.csv");
+        Files.write(csv, List.of(candidate("ann", 75).toCSV()), StandardCharsets.UTF_8);
+
+        JournaledCandidateStore store = new JournaledCandidateStore(csv, 10, 1000);
+        assertEquals(1, store.load().size());
+        store.put(1, candidate("bob", 80));
+        store.put(0, candidate("ann", 90));
+        store.flush();
+
+        // Simulate a crash: reopen without closing
+        List<Candidate> reloaded = new JournaledCandidateStore(csv, 10, 1000).load();
+        assertEquals(2, reloaded.size());
+        assertEquals(90.0, reloaded.get(0).avg, 0.0);
+        assertEquals("bob", reloaded.get(1).name);
+    }
+
+    @Test
+    public void dropsTornTailRecord() throws Exception
+    {
+        Path csv = tmp.getRoot().toPath().resolve("candidates.csv");
+        JournaledCandidateStore store = new JournaledCandidateStore(csv, 10, 1000);
+        store.load();
+        store.put(0, candidate("ann", 75));
+        store.flush();
+        Path journal = csv.resolveSibling("candidates.csv.journal");
+        Files.write(journal, "P1\tdeadbeef\tbob,b".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        List<Candidate> reloaded = new JournaledCandidateStore(csv, 10, 1000).load();
+        assertEquals(1, reloaded.size());
+        assertFalse(new String(Files.readAllBytes(journal), StandardCharsets.UTF_8).contains("bob"));
+    }
+
+    @Test
+    public void closeLeavesJournalForNextLoad() throws Exception
+    {
+        Path csv = tmp.getRoot().toPath().resolve("candidates.csv");
+        JournaledCandidateStore store = new JournaledCandidateStore(csv, 10, 1000);
+        store.load();
+        store.put(0, candidate("ann", 75));
+        store.put(1, candidate("bob", 80));
+        store.close();
+
+        assertFalse(Files.exists(csv));
+        assertEquals(2, Files.readAllLines(csv.resolveSibling("candidates.csv.journal")).size());
+        assertEquals(List.of("ann", "bob"), new JournaledCandidateStore(csv).load().stream().map(Candidate::getName).toList());
+    }
+
+    @Test
+    public void compactsJournalOncePastThreshold() throws Exception
+    {
+        Path csv = tmp.getRoot().toPath().resolve("candidates.csv");
+        JournaledCandidateStore store = new JournaledCandidateStore(csv, 10, 2);
+        store.load();
+        for (int i = 0; i < 5; i++) store.put(i, candidate("c" + i, 60 + i));
+        store.truncate(4);
+        store.close(); // waits for the background compaction
+
+        assertTrue(Files.readAllLines(csv).size() >= 2);
+        assertFalse(Files.exists(csv.resolveSibling("candidates.csv.journal.old")));
+        assertEquals(List.of("c0", "c1", "c2", "c3"), new JournaledCandidateStore(csv).load().stream().map(Candidate::getName).toList());
+    }
+
+    @Test
+    public void keepsUnreadableSnapshotRowsByNotCompacting() throws Exception
+    {
+        Path csv = tmp.getRoot().toPath().resolve("candidates.csv");
+        Files.write(csv, List.of(candidate("ann", 75).toCSV(), "Smith, John,???"), StandardCharsets.UTF_8);
+        JournaledCandidateStore store = new JournaledCandidateStore(csv, 10, 1);
+        List<Candidate> list = store.load();
+        try {
+            store.put(list.size(), new Candidate("Smith, John", "john@gmail.com", "QA Analyst", 80, 70, 3, "SHORTLISTED", 70, null));
+            fail("comma in name was journaled");
+        } catch (IllegalArgumentException expected) {
+        }
+        store.put(1, candidate("bob", 80));
+        store.put(0, candidate("ann", 90));
+        store.close();
+
+        assertTrue(Files.readAllLines(csv).contains("Smith, John,???"));
+        List<Candidate> reloaded = new JournaledCandidateStore(csv, 10, 1000).load();
+        assertEquals(List.of("ann", "bob"), reloaded.stream().map(Candidate::getName).toList());
+        assertEquals(90.0, reloaded.get(0).avg, 0.0);
+    }
+
+    @Test
+    public void instancesSharingFilesMergeEachOthersRows() throws Exception
+    {
+        Path csv = tmp.getRoot().toPath().resolve("candidates.csv");
+        Files.write(csv, List.of(candidate("ann", 75).toCSV(), candidate("bob", 80).toCSV()), StandardCharsets.UTF_8);
+        JournaledCandidateStore a = new JournaledCandidateStore(csv, 10, 1000), b = new JournaledCandidateStore(csv, 10, 1000);
+        List<Candidate> listA = a.load(), listB = b.load();
+
+        // Both append at local index 2 and edit row 0; b writes last
+        listA.add(candidate("cat", 60)); a.put(2, listA.get(2));
+        listA.set(0, candidate("ann", 90)); a.put(0, listA.get(0));
+        a.flush();
+        listB.add(candidate("dan", 65)); b.put(2, listB.get(2));
+        listB.set(0, candidate("ann", 95)); b.put(0, listB.get(0));
+        b.flush();
+        assertEquals(1, b.conflicts());
+
+        CandidateSync.merge(b.drainRemote(), listB);
+        assertTrue(a.pollJournal());
+        CandidateSync.merge(a.drainRemote(), listA);
+        List<Candidate> shared = new JournaledCandidateStore(csv, 10, 1000).load();
+        assertEquals(List.of("ann", "bob", "cat", "dan"), shared.stream().map(Candidate::getName).toList());
+        assertEquals(95.0, shared.get(0).avg, 0.0);
+        assertEquals(shared, listA);
+        assertEquals(shared, listB);
+
+        // Further writes land at the merged positions; an unreadable record does not stall sync
+        Files.write(csv.resolveSibling("candidates.csv.journal"), JournaledCandidateStore.encode('P', 4, "eve,???"), StandardOpenOption.APPEND);
+        listA.set(3, candidate("dan", 70)); a.put(3, listA.get(3));
+        a.flush();
+        assertTrue(b.pollJournal());
+        CandidateSync.merge(b.drainRemote(), listB);
+        assertEquals(70.0, listB.get(3).avg, 0.0);
+
+        // After a compaction elsewhere, edits wait for the full reload and are applied to it
+        JournaledCandidateStore c = new JournaledCandidateStore(csv, 10, 1);
+        c.load(); // the journal is past c's threshold
+        c.close();
+        a.close();
+        listB.add(candidate("eve", 50)); b.put(4, listB.get(4));
+        listB.set(1, candidate("bob", 85)); b.put(1, listB.get(1));
+        assertTrue(b.pollJournal());
+        assertNull(b.drainRemote());
+        List<Candidate> reloaded = new ArrayList<>(b.reload());
+        assertEquals(List.of("ann", "bob", "cat", "dan", "eve"), reloaded.stream().map(Candidate::getName).toList());
+        assertEquals(85.0, reloaded.get(1).avg, 0.0);
+        b.close();
+        assertEquals(reloaded, new JournaledCandidateStore(csv, 10, 1000).load());
+    }
+}
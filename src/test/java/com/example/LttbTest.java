@@ -0,0 +1,41 @@
+package com.example;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the LTTB trend downsampler.
+ */
+public class LttbTest
+{
+    @Test
+    public void keepsEndpointsAndPeaks()
+    {
+        double[] y = new double[10_000];
+        for (int i = 0; i < y.length; i++) y[i] = 50 + Math.sin(i / 500.0) * 10;
+        y[4321] = 100;
+        y[7777] = 0;
+        int[] out = new int[100];
+        int n = Lttb.downsample(y, 0, y.length, out.length, out);
+
+        assertEquals(100, n);
+        assertEquals(0, out[0]);
+        assertEquals(y.length - 1, out[n - 1]);
+        for (int i = 1; i < n; i++) assertTrue(out[i] > out[i - 1]);
+        assertTrue(Arrays.stream(out).anyMatch(i -> i == 4321));
+        assertTrue(Arrays.stream(out).anyMatch(i -> i == 7777));
+    }
+
+    @Test
+    public void smallRangeIsKeptWhole()
+    {
+        int[] out = new int[10];
+        assertEquals(3, Lttb.downsample(new double[] { 1, 2, 3, 4, 5 }, 1, 4, 10, out));
+        assertArrayEquals(new int[] { 1, 2, 3 }, Arrays.copyOf(out, 3));
+    }
+}
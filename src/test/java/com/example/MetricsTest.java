@@ -0,0 +1,45 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the metrics registry and its Prometheus export.
+ */
+public class MetricsTest
+{
+    @Test
+    public void timerBucketsAndQuantiles()
+    {
+        Metrics.Timer t = Metrics.timer("test_timer");
+        for (int i = 0; i < 9; i++) t.record(2_000_000);  // 2 ms
+        t.record(300_000_000);                            // 300 ms
+        assertEquals(10, t.count());
+        assertEquals(2.5, t.quantileMs(0.5), 1e-9);
+        assertEquals(500, t.quantileMs(0.95), 1e-9);
+        try (Metrics.Span s = t.start()) { }
+        assertEquals(11, t.count());
+    }
+
+    @Test
+    public void exportsPrometheusText() throws IOException
+    {
+        Metrics.timer("test_export").record(1_000_000);
+        Metrics.count("failures{op=\"test_export\"}", 2);
+        Metrics.gauge("test_rows", () -> 42);
+        StringWriter w = new StringWriter();
+        Metrics.writePrometheus(w);
+        String text = w.toString();
+        assertTrue(text.contains("candidates_operation_seconds_bucket{op=\"test_export\",le=\"0.001\"} 1\n"));
+        assertTrue(text.contains("candidates_operation_seconds_bucket{op=\"test_export\",le=\"+Inf\"} 1\n"));
+        assertTrue(text.contains("candidates_operation_seconds_count{op=\"test_export\"} 1\n"));
+        assertTrue(text.contains("# TYPE candidates_failures_total counter\n"));
+        assertTrue(text.contains("candidates_failures_total{op=\"test_export\"} 2\n"));
+        assertTrue(text.contains("candidates_test_rows 42\n"));
+    }
+}
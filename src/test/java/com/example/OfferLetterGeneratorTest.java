@@ -0,0 +1,70 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for template compilation and batch offer generation.
+ */
+public class OfferLetterGeneratorTest
+{
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void escapesValuesAndPicksRoleVariant() throws Exception
+    {
+        OfferLetterGenerator gen = new OfferLetterGenerator();
+        String qa = gen.render(new Candidate("<b>Ann</b> & Co", "a@gmail.com", "QA Analyst", 90, 80, 2, "HIRED", 85.0, null));
+        String swe = gen.render(new Candidate("Ben", "ben@gmail.com", "Software Engineer", 90, 80, 2, "HIRED", 85.0, null));
+
+        assertTrue(qa.contains("Dear &lt;b&gt;Ann&lt;/b&gt; &amp; Co,"));
+        assertTrue(qa.contains("<b>QA Analyst</b>"));
+        assertTrue(swe.contains("engineering organisation"));
+        assertTrue(swe.contains("ben@gmail.com"));
+    }
+
+    @Test
+    public void writesEveryOfferToFolderAndZip() throws Exception
+    {
+        List<Candidate> hired = new ArrayList<>();
+        for (int i = 0; i < 600; i++) hired.add(new Candidate("cand " + (i % 300), "c@gmail.com", "Product Manager", 90, 90, 3, "HIRED", 90.0, null));
+        OfferLetterGenerator gen = new OfferLetterGenerator();
+
+        Path dir = tmp.newFolder("offers").toPath();
+        assertEquals(600, gen.writeAll(hired, dir, (d, t) -> {}));
+        try (var files = Files.list(dir)) { assertEquals(600, files.count()); }
+
+        Path zip = tmp.getRoot().toPath().resolve("offers.zip");
+        assertEquals(600, gen.writeZip(hired, zip, (d, t) -> {}));
+        Set<String> names = new HashSet<>();
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(zip))) {
+            for (ZipEntry e; (e = in.getNextEntry()) != null; ) names.add(e.getName());
+        }
+        assertEquals(600, names.size());
+        assertTrue(names.contains("Offer_cand_7_2.html"));
+    }
+
+    @Test
+    public void namesDifferingOnlyInCaseDoNotCollide()
+    {
+        List<Candidate> hired = new ArrayList<>();
+        for (String n : List.of("Ann", "ann", "ANN")) hired.add(new Candidate(n, "a@gmail.com", "QA Analyst", 90, 80, 2, "HIRED", 85.0, null));
+        assertEquals(List.of("Offer_Ann.html", "Offer_ann_2.html", "Offer_ANN_3.html"), List.of(OfferLetterGenerator.uniqueNames(hired)));
+    }
+}
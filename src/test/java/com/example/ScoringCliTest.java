@@ -0,0 +1,91 @@
+package com.example;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for the headless re-scoring command.
+ */
+public class ScoringCliTest
+{
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(), err = new ByteArrayOutputStream();
+
+    private int run(String... args)
+    {
+        return ScoringCli.run(args, new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private Path data(String... extraLines) throws Exception
+    {
+        Path csv = tmp.getRoot().toPath().resolve("candidates.csv");
+        List<String> lines = new ArrayList<>(List.of(
+                new Candidate("ann", "ann@gmail.com", "QA Analyst", 90, 80, 2, "ON HOLD", 0, null).toCSV(),
+                new Candidate("bob", "bob@gmail.com", "QA Analyst", 60, 50, 5, "ON HOLD", 0, null).toCSV()));
+        lines.addAll(List.of(extraLines));
+        Files.write(csv, lines, StandardCharsets.UTF_8);
+        return csv;
+    }
+
+    private String rules()
+    {
+        return tmp.getRoot().toPath().resolve("scoring.properties").toString(); // absent: built-in defaults
+    }
+
+    @Test
+    public void refusesDataWithUnmergedJournal() throws Exception
+    {
+        Path csv = data();
+        byte[] before = Files.readAllBytes(csv);
+        Files.write(csv.resolveSibling("candidates.csv.journal"), JournaledCandidateStore.encode('P', 0, "x"));
+
+        assertEquals(1, run("--rescore", csv.toString(), "--rules", rules()));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("not yet merged"));
+        assertArrayEquals(before, Files.readAllBytes(csv));
+    }
+
+    @Test
+    public void refusesToOverwriteMalformedRows() throws Exception
+    {
+        Path csv = data("carl,???");
+        byte[] before = Files.readAllBytes(csv);
+
+        assertEquals(1, run("--rescore", csv.toString(), "--rules", rules()));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("pass --out"));
+        assertArrayEquals(before, Files.readAllBytes(csv));
+
+        Path rescored = csv.resolveSibling("rescored.csv");
+        assertEquals(0, run("--rescore", csv.toString(), "--rules", rules(), "--out", rescored.toString()));
+        assertEquals(List.of("HIRED", "REJECTED"), CandidateCsvImporter.importFile(rescored).candidates.stream().map(c -> c.status).toList());
+    }
+
+    @Test
+    public void dryRunReportsWithoutWriting() throws Exception
+    {
+        Path csv = data();
+        byte[] before = Files.readAllBytes(csv);
+
+        assertEquals(0, run("--rescore", csv.toString(), "--rules", rules(), "--dry-run"));
+        String report = out.toString(StandardCharsets.UTF_8);
+        assertTrue(report, report.contains("2 changed (dry run"));
+        assertTrue(report, report.contains("ON HOLD      -> HIRED"));
+        assertArrayEquals(before, Files.readAllBytes(csv));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import com.example.ModernCandidateSystem.Candidate;
+
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the scoring engine and its rule configuration.
+ */
+public class ScoringEngineTest
+{
+    @Test
+    public void defaultsMatchOriginalPolicy()
+    {
+        ScoringEngine engine = new ScoringEngine(ScoringRules.defaults());
+        assertEquals("HIRED", engine.score("a", "a@gmail.com", "QA Analyst", 90, 80, 2, null).status);
+        assertEquals("SHORTLISTED", engine.score("a", "a@gmail.com", "QA Analyst", 90, 80, 1, null).status);
+        assertEquals("ON HOLD", engine.score("a", "a@gmail.com", "QA Analyst", 60, 50, 6, null).status);
+        assertEquals("REJECTED", engine.score("a", "a@gmail.com", "QA Analyst", 60, 50, 5, null).status);
+        assertEquals(85.0, engine.score("a", "a@gmail.com", "QA Analyst", 90, 80, 2, null).avg, 0.0);
+    }
+
+    @Test
+    public void batchAppliesRoleOverridesAndKeepsUnchangedRows()
+    {
+        Properties p = new Properties();
+        p.setProperty("role.QA Analyst.hire.avg", "75");
+        p.setProperty("role.QA Analyst.tech.weight", "3");
+        ScoringEngine engine = new ScoringEngine(ScoringRules.from(p));
+        List<Candidate> rows = List.of(
+                new Candidate("q", "q@gmail.com", "QA Analyst", 80, 60, 3, "SHORTLISTED", 70.0, null),
+                new Candidate("s", "s@gmail.com", "System Admin", 80, 60, 3, "SHORTLISTED", 70.0, null));
+
+        ScoringEngine.Batch batch = engine.evaluate(rows);
+        List<Candidate> out = ScoringEngine.apply(rows, batch);
+
+        assertEquals(75.0, batch.avg[0], 0.0);
+        assertEquals("HIRED", out.get(0).status);
+        assertNotSame(rows.get(0), out.get(0));
+        assertSame(rows.get(1), out.get(1));
+        assertEquals(1, ScoringEngine.transitions(rows, batch)[CandidateStatus.SHORTLISTED.ordinal()][CandidateStatus.HIRED.ordinal()]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsFractionalExperienceThreshold()
+    {
+        Properties p = new Properties();
+        p.setProperty("role.QA Analyst.hire.exp", "2.5");
+        ScoringRules.from(p);
+    }
+}